@@ -0,0 +1,7 @@
+package com.speedbirdkk.discretetoolkit.exceptions;
+
+public class NotAnOrderingException extends RuntimeException {
+    public NotAnOrderingException(String msg) {
+        super(msg);
+    }
+}
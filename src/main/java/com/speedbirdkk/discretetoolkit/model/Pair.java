@@ -1,6 +1,16 @@
 package com.speedbirdkk.discretetoolkit.model;
 
+import java.util.Objects;
+
 public record Pair<A, B>(A a, B b) {
+    // The default record hash, 31 * h(a) + h(b), maps pairs of small integers onto a narrow
+    // contiguous range, on which the linear probing of the sets returned by Set.copyOf degrades badly.
+    @Override
+    public int hashCode() {
+        int h = Objects.hashCode(a) * 0x9e3779b9 + Objects.hashCode(b);
+        return h ^ (h >>> 16);
+    }
+
     @Override
     public final String toString() {
         return "(" + a + ", " + b + ")";
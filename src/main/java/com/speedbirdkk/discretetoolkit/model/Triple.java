@@ -0,0 +1,17 @@
+package com.speedbirdkk.discretetoolkit.model;
+
+import java.util.Objects;
+
+public record Triple<A, B, C>(A a, B b, C c) {
+    // Mixed the same way as Pair, for the same reason.
+    @Override
+    public int hashCode() {
+        int h = (Objects.hashCode(a) * 0x9e3779b9 + Objects.hashCode(b)) * 0x9e3779b9 + Objects.hashCode(c);
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public final String toString() {
+        return "(" + a + ", " + b + ", " + c + ")";
+    }
+}
@@ -0,0 +1,193 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap over the elements {@code 0..capacity()-1}, each with a {@code double} key.
+ * More formally, a priority queue that also records the position of every element in the heap,
+ * so that the key of an element already in the heap can be decreased in O(log n).
+ *
+ * <p>The heap, positions and keys are stored in primitive arrays allocated once, so no operation
+ * allocates. {@link #clear()} costs O(size()), which lets one heap be reused across many searches.
+ * The structure is mutable and not thread-safe.
+ *
+ * @author speedbird-kk
+ * @since 2025
+ * @version 1.0
+ */
+public final class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] positions;
+    /**
+     * Key of the element at each heap position, kept in heap order so that sifting compares
+     * neighbouring entries instead of following an index per comparison.
+     */
+    private final double[] keys;
+    private int size;
+
+    /**
+     * Constructs an empty heap for the elements {@code 0..capacity-1}.
+     * @param capacity the number of elements
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public IndexedMinHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Inserts {@code element} with {@code key}, or decreases its key to {@code key} if it is already
+     * in the heap with a larger key.
+     * @param element the element
+     * @param key the key
+     * @throws IndexOutOfBoundsException if {@code element} is not between 0 and {@code capacity() - 1}
+     * @return {@code true} if the element was inserted or its key decreased
+     */
+    public boolean offer(int element, double key) {
+        int p = positions[element];
+
+        if (p < 0) {
+            p = size++;
+        } else if (key >= keys[p]) {
+            return false;
+        }
+
+        siftUp(p, element, key);
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the element with the smallest key.
+     * @throws NoSuchElementException if the heap is empty
+     * @return the element with the smallest key
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        int top = heap[0];
+        positions[top] = -1;
+        size--;
+
+        if (size > 0) {
+            siftDown(0, heap[size], keys[size]);
+        }
+
+        return top;
+    }
+
+    /**
+     * Returns the element with the smallest key without removing it.
+     * @throws NoSuchElementException if the heap is empty
+     * @return the element with the smallest key
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        return heap[0];
+    }
+
+    /**
+     * Returns the smallest key in the heap, or {@code Double.POSITIVE_INFINITY} if the heap is empty.
+     * @return the smallest key
+     */
+    public double peekKey() {
+        return size == 0 ? Double.POSITIVE_INFINITY : keys[0];
+    }
+
+    /**
+     * Returns {@code true} if {@code element} is in the heap.
+     * @param element the element
+     * @throws IndexOutOfBoundsException if {@code element} is not between 0 and {@code capacity() - 1}
+     * @return {@code true} if {@code element} is in the heap
+     */
+    public boolean contains(int element) {
+        return positions[element] >= 0;
+    }
+
+    /**
+     * Removes every element from the heap in O(size()).
+     */
+    public void clear() {
+        for (int p = 0; p < size; p++) {
+            positions[heap[p]] = -1;
+        }
+
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    /**
+     * Moves {@code element} with {@code key} up from the free position {@code p} to its place.
+     */
+    private void siftUp(int p, int element, double key) {
+        while (p > 0) {
+            int parent = (p - 1) >>> 1;
+
+            if (keys[parent] <= key) {
+                break;
+            }
+
+            heap[p] = heap[parent];
+            keys[p] = keys[parent];
+            positions[heap[p]] = p;
+            p = parent;
+        }
+
+        heap[p] = element;
+        keys[p] = key;
+        positions[element] = p;
+    }
+
+    /**
+     * Moves {@code element} with {@code key} down from the free position {@code p} to its place.
+     */
+    private void siftDown(int p, int element, double key) {
+        int half = size >>> 1;
+
+        while (p < half) {
+            int child = 2 * p + 1;
+            int right = child + 1;
+
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+
+            if (keys[child] >= key) {
+                break;
+            }
+
+            heap[p] = heap[child];
+            keys[p] = keys[child];
+            positions[heap[p]] = p;
+            p = child;
+        }
+
+        heap[p] = element;
+        keys[p] = key;
+        positions[element] = p;
+    }
+}
@@ -0,0 +1,200 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * An immutable one-to-one correspondence between a collection of distinct elements and the dense
+ * indices {@code 0..n-1}, the interning table behind the compact graphs and the matrix conversions
+ * of relations. Element {@code i} is the {@code i}-th element in the iteration order of the
+ * collection the indexer was built from.
+ *
+ * <p>Elements are held in an array by index. The inverse direction is an open addressing hash table
+ * with linear probing over a single {@code int[]} of indices plus one, {@code 0} marking an empty
+ * slot, kept at most half full. The hash code of every element is cached by index, so a lookup
+ * calls {@code equals} only on a matching hash and neither boxes the index nor allocates.
+ *
+ * <p>Since an indexer never changes, one indexer can be built once for a domain and shared by every
+ * graph, matrix and relation over that domain, see {@code Relations.adjacencyMatrix(Indexer, Indexer, Set)}.
+ *
+ * @param <A> the type of elements
+ *
+ * @author speedbird-kk
+ * @since 2025
+ * @version 1.0
+ */
+public final class Indexer<A> {
+    private final Object[] elements;
+    private final int[] hashes;
+    private final int[] table;
+    private final int mask;
+
+    private Indexer(Object[] elements) {
+        int n = elements.length;
+        int capacity = Integer.highestOneBit(Math.max(8, n) * 2 - 1) << 1;
+
+        this.elements = elements;
+        this.hashes = new int[n];
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < n; i++) {
+            Object e = Objects.requireNonNull(elements[i], "Elements must not be null");
+            int h = spread(e.hashCode());
+            int s = h & mask;
+
+            while (table[s] != 0) {
+                int j = table[s] - 1;
+
+                if (hashes[j] == h && elements[j].equals(e)) {
+                    throw new IllegalArgumentException("Elements must not contain duplicates");
+                }
+
+                s = (s + 1) & mask;
+            }
+
+            hashes[i] = h;
+            table[s] = i + 1;
+        }
+    }
+
+    /**
+     * Constructs an indexer for the elements of {@code elements}, in iteration order.
+     * @param <A> the element type
+     * @param elements the distinct elements
+     * @throws NullPointerException if {@code elements} or any of its elements is null
+     * @throws IllegalArgumentException if {@code elements} contains duplicate elements
+     * @return the indexer of {@code elements}
+     */
+    public static <A> Indexer<A> of(Collection<? extends A> elements) {
+        Objects.requireNonNull(elements, "Collection of elements must not be null");
+
+        return new Indexer<>(elements.toArray());
+    }
+
+    /**
+     * Spreads the bits of a hash code so that codes differing only in their high bits spread over
+     * the table.
+     */
+    private static int spread(int h) {
+        h *= 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the index of {@code o}, or {@code -1} if it is not an element.
+     * @param o the object to look up
+     * @return the index of {@code o}, or {@code -1}
+     */
+    public int indexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+
+        int h = spread(o.hashCode());
+
+        for (int s = h & mask; table[s] != 0; s = (s + 1) & mask) {
+            int j = table[s] - 1;
+
+            if (hashes[j] == h && elements[j].equals(o)) {
+                return j;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns {@code true} if {@code o} is an element.
+     * @param o the object to look up
+     * @return {@code true} if {@code o} is an element
+     */
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the element with index {@code i}.
+     * @param i the index
+     * @throws IndexOutOfBoundsException if {@code i} is not between 0 and {@code size() - 1}
+     * @return the element with index {@code i}
+     */
+    @SuppressWarnings("unchecked")
+    public A get(int i) {
+        return (A) elements[i];
+    }
+
+    /**
+     * Returns the number of elements.
+     * @return the number of elements
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the elements ordered by index, as an unmodifiable view.
+     * @return the list of elements
+     */
+    public List<A> elements() {
+        return new ElementList();
+    }
+
+    /**
+     * Returns the elements as an unmodifiable set view, with {@code contains} answered by the table.
+     * @return the set of elements
+     */
+    public Set<A> asSet() {
+        return new ElementSet();
+    }
+
+    private final class ElementList extends AbstractList<A> implements RandomAccess {
+        @Override
+        public A get(int i) {
+            return Indexer.this.get(i);
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return Indexer.this.indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return Indexer.this.indexOf(o);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return Indexer.this.contains(o);
+        }
+    }
+
+    private final class ElementSet extends AbstractSet<A> {
+        @Override
+        public Iterator<A> iterator() {
+            return elements().iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return Indexer.this.contains(o);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A mutable set of primitive {@code long} values. More formally, an open addressing hash table
+ * with linear probing over a single {@code long[]}, so that adding, removing and looking up a
+ * value never allocates apart from occasional growth of the table.
+ *
+ * <p>The value {@code 0} marks an empty slot in the table and is tracked by a separate flag.
+ * The table is kept at most half full.
+ *
+ * @author speedbird-kk
+ * @since 2025
+ * @version 1.0
+ */
+public final class LongHashSet {
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * Constructs an empty set.
+     */
+    public LongHashSet() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty set with room for {@code expectedSize} values before the table grows.
+     * @param expectedSize the expected number of values
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Mixes the bits of a value so that keys differing only in their high bits spread over the table.
+     */
+    private static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    private int slot(long value) {
+        int i = (int) mix(value) & mask;
+
+        while (table[i] != 0 && table[i] != value) {
+            i = (i + 1) & mask;
+        }
+
+        return i;
+    }
+
+    /**
+     * Adds {@code value} to the set.
+     * @param value the value to add
+     * @return {@code true} if the set did not already contain {@code value}
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int i = slot(value);
+
+        if (table[i] == value) {
+            return false;
+        }
+
+        table[i] = value;
+        size++;
+
+        if (2 * size > table.length) {
+            grow();
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the set contains {@code value}.
+     * @param value the value
+     * @return {@code true} if the set contains {@code value}
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+
+        return table[slot(value)] == value;
+    }
+
+    /**
+     * Removes {@code value} from the set. Later values in the same probe sequence are shifted back
+     * so that no tombstones are left in the table.
+     * @param value the value to remove
+     * @return {@code true} if the set contained {@code value}
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int i = slot(value);
+
+        if (table[i] != value) {
+            return false;
+        }
+
+        int gap = i;
+        int j = (i + 1) & mask;
+
+        while (table[j] != 0) {
+            int home = (int) mix(table[j]) & mask;
+
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                table[gap] = table[j];
+                gap = j;
+            }
+
+            j = (j + 1) & mask;
+        }
+
+        table[gap] = 0;
+        size--;
+        return true;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+
+        for (long value : old) {
+            if (value != 0) {
+                table[slot(value)] = value;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs {@code action} for each value in the set, in no particular order.
+     * @param action the action to perform
+     */
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+
+        for (long value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the set as a new array, in no particular order.
+     * @return the array of values
+     */
+    public long[] toArray() {
+        long[] out = new long[size];
+        int k = 0;
+
+        if (containsZero) {
+            out[k++] = 0;
+        }
+
+        for (long value : table) {
+            if (value != 0) {
+                out[k++] = value;
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Returns a sequential stream over a snapshot of the values of the set.
+     * @return the stream of values
+     */
+    public LongStream stream() {
+        return Arrays.stream(toArray());
+    }
+}
@@ -0,0 +1,655 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable map with persistent updates. More formally, a hash array mapped trie in which
+ * {@link #with(Object, Object)} and {@link #without(Object)} return a new map that shares all
+ * unchanged nodes with the original, so each update costs O(log n) time and memory with a
+ * branching factor of 32.
+ *
+ * <p>Keys are placed in the trie by successive 5-bit slices of their {@code hashCode()}. Keys
+ * with equal hash codes that are not equal are kept together in a collision node. Neither keys
+ * nor values may be {@code null}.
+ *
+ * <p>Many updates in a row can be applied through a {@link Builder}, which edits the nodes it has
+ * already copied in place instead of copying the path to the root again for every update.
+ *
+ * <p>The map is unmodifiable through the {@code java.util.Map} interface, and {@code hashCode()}
+ * is maintained incrementally so that it costs O(1).
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ *
+ * @author speedbird-kk
+ * @see PersistentSet
+ * @since 2025
+ * @version 1.0
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0, 0);
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final Node root;
+    private final int size;
+    private final int hash;
+
+    private PersistentMap(Node root, int size, int hash) {
+        this.root = root;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the empty map.
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return the empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map containing the entries of {@code map}.
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @param map the map whose entries to copy
+     * @throws NullPointerException if {@code map} is null or contains a null key or value
+     * @return the map containing the entries of {@code map}
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentMap<?, ?>) {
+            return (PersistentMap<K, V>) map;
+        }
+
+        Builder<K, V> builder = PersistentMap.<K, V>empty().toBuilder();
+
+        for (Map.Entry<? extends K, ? extends V> e : map.entrySet()) {
+            builder.put(e.getKey(), e.getValue());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a map with the same entries as this map except that {@code key} is mapped to {@code value}.
+     * @param key the key
+     * @param value the value
+     * @throws NullPointerException if {@code key} or {@code value} is null
+     * @return the updated map, or this map if {@code key} is already mapped to {@code value}
+     */
+    public PersistentMap<K, V> with(K key, V value) {
+        Objects.requireNonNull(key, "Key must not be null");
+        Objects.requireNonNull(value, "Value must not be null");
+
+        Change change = new Change();
+        Node updated = (root == null ? BitmapNode.EMPTY : root)
+            .put(null, 0, spread(key), key, value, change);
+
+        if (updated == root) {
+            return this;
+        }
+
+        return new PersistentMap<>(
+            updated,
+            change.added ? size + 1 : size,
+            hash + entryHash(key, value) - (change.added ? 0 : entryHash(key, change.oldValue)));
+    }
+
+    /**
+     * Returns a map with the same entries as this map except for the entry of {@code key}.
+     * @param key the key
+     * @return the updated map, or this map if {@code key} is not contained in it
+     */
+    public PersistentMap<K, V> without(Object key) {
+        if (root == null || key == null) {
+            return this;
+        }
+
+        Change change = new Change();
+        Node updated = root.remove(null, 0, spread(key), key, change);
+
+        if (updated == root) {
+            return this;
+        }
+
+        return new PersistentMap<>(updated, size - 1, hash - entryHash(key, change.oldValue));
+    }
+
+    /**
+     * Returns a builder which starts with the entries of this map.
+     * @return a builder initialised with this map
+     */
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(root, size, hash);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = find(root, key);
+
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(root, key) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new TrieIterator<>(root) {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    Map.Entry<K, V> current(Object key, Object value) {
+                        return new AbstractMap.SimpleImmutableEntry<>((K) key, (V) value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns an iterator over the keys of this map that does not create entry objects.
+     */
+    Iterator<K> keyIterator() {
+        return new TrieIterator<>(root) {
+            @Override
+            @SuppressWarnings("unchecked")
+            K current(Object key, Object value) {
+                return (K) key;
+            }
+        };
+    }
+
+    /**
+     * A mutable builder for a {@code PersistentMap}. Nodes copied by the builder are owned by it
+     * and are edited in place by later updates, so a batch of {@code k} updates allocates at most
+     * one copy of each touched node. Calling {@link #build()} hands the nodes over to the returned
+     * map, after which further updates copy them again.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     */
+    public static final class Builder<K, V> {
+        private Object owner = new Object();
+        private Node root;
+        private int size;
+        private int hash;
+
+        private Builder(Node root, int size, int hash) {
+            this.root = root;
+            this.size = size;
+            this.hash = hash;
+        }
+
+        /**
+         * Maps {@code key} to {@code value}.
+         * @param key the key
+         * @param value the value
+         * @throws NullPointerException if {@code key} or {@code value} is null
+         * @return the value previously mapped to {@code key}, or {@code null} if there was none
+         */
+        @SuppressWarnings("unchecked")
+        public V put(K key, V value) {
+            Objects.requireNonNull(key, "Key must not be null");
+            Objects.requireNonNull(value, "Value must not be null");
+
+            Change change = new Change();
+            root = (root == null ? BitmapNode.EMPTY : root).put(owner, 0, spread(key), key, value, change);
+
+            if (change.added) {
+                size++;
+                hash += entryHash(key, value);
+                return null;
+            }
+
+            hash += entryHash(key, value) - entryHash(key, change.oldValue);
+            return (V) change.oldValue;
+        }
+
+        /**
+         * Removes the entry of {@code key}.
+         * @param key the key
+         * @return the value previously mapped to {@code key}, or {@code null} if there was none
+         */
+        @SuppressWarnings("unchecked")
+        public V remove(Object key) {
+            if (root == null || key == null) {
+                return null;
+            }
+
+            Change change = new Change();
+            root = root.remove(owner, 0, spread(key), key, change);
+
+            if (!change.removed) {
+                return null;
+            }
+
+            size--;
+            hash -= entryHash(key, change.oldValue);
+            return (V) change.oldValue;
+        }
+
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            Object value = find(root, key);
+
+            return value == NOT_FOUND ? null : (V) value;
+        }
+
+        public boolean containsKey(Object key) {
+            return find(root, key) != NOT_FOUND;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the map with the entries of this builder. The builder may still be used afterwards.
+         * @return the map with the entries of this builder
+         */
+        public PersistentMap<K, V> build() {
+            owner = new Object();
+
+            return size == 0 ? empty() : new PersistentMap<>(root, size, hash);
+        }
+    }
+
+    private static Object find(Node root, Object key) {
+        if (root == null || key == null) {
+            return NOT_FOUND;
+        }
+
+        return root.find(0, spread(key), key);
+    }
+
+    private static int spread(Object key) {
+        int h = key.hashCode();
+
+        return h ^ (h >>> 16);
+    }
+
+    private static int entryHash(Object key, Object value) {
+        return key.hashCode() ^ value.hashCode();
+    }
+
+    private static int bitpos(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    /**
+     * Records the effect of a single update on a trie.
+     */
+    private static final class Change {
+        boolean added;
+        boolean removed;
+        Object oldValue;
+    }
+
+    /**
+     * A node of the trie. Entries are stored in {@code array} as consecutive key-value slots, and
+     * a {@code null} key marks a slot whose value is a child node.
+     */
+    private abstract static class Node {
+        Object[] array;
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node put(Object owner, int shift, int hash, Object key, Object value, Change change);
+
+        abstract Node remove(Object owner, int shift, int hash, Object key, Change change);
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        final Object owner;
+        int bitmap;
+
+        BitmapNode(Object owner, int bitmap, Object[] array) {
+            this.owner = owner;
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode editable(Object owner) {
+            if (owner != null && this.owner == owner) {
+                return this;
+            }
+
+            return new BitmapNode(owner, bitmap, array.clone());
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bitpos(hash, shift);
+
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+
+            int idx = index(bit);
+            Object k = array[2 * idx];
+            Object v = array[2 * idx + 1];
+
+            if (k == null) {
+                return ((Node) v).find(shift + 5, hash, key);
+            }
+
+            return key.equals(k) ? v : NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object owner, int shift, int hash, Object key, Object value, Change change) {
+            int bit = bitpos(hash, shift);
+            int idx = index(bit);
+
+            if ((bitmap & bit) == 0) {
+                int n = Integer.bitCount(bitmap);
+                Object[] grown = new Object[2 * (n + 1)];
+
+                System.arraycopy(array, 0, grown, 0, 2 * idx);
+                grown[2 * idx] = key;
+                grown[2 * idx + 1] = value;
+                System.arraycopy(array, 2 * idx, grown, 2 * (idx + 1), 2 * (n - idx));
+
+                change.added = true;
+
+                if (owner != null && this.owner == owner) {
+                    this.bitmap |= bit;
+                    this.array = grown;
+                    return this;
+                }
+
+                return new BitmapNode(owner, bitmap | bit, grown);
+            }
+
+            Object k = array[2 * idx];
+            Object v = array[2 * idx + 1];
+
+            if (k == null) {
+                Node child = ((Node) v).put(owner, shift + 5, hash, key, value, change);
+
+                if (child == v) {
+                    return this;
+                }
+
+                BitmapNode edited = editable(owner);
+                edited.array[2 * idx + 1] = child;
+                return edited;
+            }
+
+            if (key.equals(k)) {
+                change.oldValue = v;
+
+                if (v == value) {
+                    return this;
+                }
+
+                BitmapNode edited = editable(owner);
+                edited.array[2 * idx + 1] = value;
+                return edited;
+            }
+
+            change.added = true;
+
+            BitmapNode edited = editable(owner);
+            edited.array[2 * idx] = null;
+            edited.array[2 * idx + 1] = pair(owner, shift + 5, k, v, hash, key, value);
+            return edited;
+        }
+
+        @Override
+        Node remove(Object owner, int shift, int hash, Object key, Change change) {
+            int bit = bitpos(hash, shift);
+
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int idx = index(bit);
+            Object k = array[2 * idx];
+            Object v = array[2 * idx + 1];
+
+            if (k == null) {
+                Node child = ((Node) v).remove(owner, shift + 5, hash, key, change);
+
+                if (child == v) {
+                    return this;
+                }
+
+                if (child != null) {
+                    BitmapNode edited = editable(owner);
+                    edited.array[2 * idx + 1] = child;
+                    return edited;
+                }
+            } else if (key.equals(k)) {
+                change.removed = true;
+                change.oldValue = v;
+            } else {
+                return this;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+
+            Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, 2 * idx);
+            System.arraycopy(array, 2 * (idx + 1), shrunk, 2 * idx, array.length - 2 * (idx + 1));
+
+            if (owner != null && this.owner == owner) {
+                this.bitmap ^= bit;
+                this.array = shrunk;
+                return this;
+            }
+
+            return new BitmapNode(owner, bitmap ^ bit, shrunk);
+        }
+
+        /**
+         * Creates the node holding two distinct keys that share the same slot up to {@code shift}.
+         */
+        private static Node pair(
+            Object owner, int shift, Object k1, Object v1, int h2, Object k2, Object v2
+        ) {
+            int h1 = spread(k1);
+
+            if (h1 == h2) {
+                return new CollisionNode(h1, new Object[] {k1, v1, k2, v2});
+            }
+
+            Change ignored = new Change();
+
+            return EMPTY
+                .put(owner, shift, h1, k1, v1, ignored)
+                .put(owner, shift, h2, k2, v2, ignored);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int i = hash == this.hash ? indexOf(key) : -1;
+
+            return i < 0 ? NOT_FOUND : array[i + 1];
+        }
+
+        @Override
+        Node put(Object owner, int shift, int hash, Object key, Object value, Change change) {
+            if (hash != this.hash) {
+                return new BitmapNode(owner, bitpos(this.hash, shift), new Object[] {null, this})
+                    .put(owner, shift, hash, key, value, change);
+            }
+
+            int i = indexOf(key);
+
+            if (i >= 0) {
+                change.oldValue = array[i + 1];
+
+                if (array[i + 1] == value) {
+                    return this;
+                }
+
+                Object[] replaced = array.clone();
+                replaced[i + 1] = value;
+                return new CollisionNode(hash, replaced);
+            }
+
+            Object[] grown = new Object[array.length + 2];
+            System.arraycopy(array, 0, grown, 0, array.length);
+            grown[array.length] = key;
+            grown[array.length + 1] = value;
+
+            change.added = true;
+            return new CollisionNode(hash, grown);
+        }
+
+        @Override
+        Node remove(Object owner, int shift, int hash, Object key, Change change) {
+            int i = hash == this.hash ? indexOf(key) : -1;
+
+            if (i < 0) {
+                return this;
+            }
+
+            change.removed = true;
+            change.oldValue = array[i + 1];
+
+            if (array.length == 2) {
+                return null;
+            }
+
+            Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, i);
+            System.arraycopy(array, i + 2, shrunk, i, array.length - i - 2);
+            return new CollisionNode(hash, shrunk);
+        }
+    }
+
+    /**
+     * Iterates over the entries of a trie depth first with an explicit stack of node arrays.
+     */
+    private abstract static class TrieIterator<T> implements Iterator<T> {
+        private final Object[][] arrays = new Object[10][];
+        private final int[] positions = new int[10];
+        private int depth = -1;
+        private Object nextKey;
+        private Object nextValue;
+
+        TrieIterator(Node root) {
+            if (root != null) {
+                push(root.array);
+            }
+
+            advance();
+        }
+
+        private void push(Object[] array) {
+            depth++;
+            arrays[depth] = array;
+            positions[depth] = 0;
+        }
+
+        private void advance() {
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                int p = positions[depth];
+
+                if (p >= array.length) {
+                    arrays[depth] = null;
+                    depth--;
+                    continue;
+                }
+
+                positions[depth] = p + 2;
+
+                if (array[p] == null) {
+                    push(((Node) array[p + 1]).array);
+                } else {
+                    nextKey = array[p];
+                    nextValue = array[p + 1];
+                    return;
+                }
+            }
+
+            nextKey = null;
+            nextValue = null;
+        }
+
+        abstract T current(Object key, Object value);
+
+        @Override
+        public boolean hasNext() {
+            return nextKey != null;
+        }
+
+        @Override
+        public T next() {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+
+            T out = current(nextKey, nextValue);
+            advance();
+            return out;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * An immutable set with persistent updates, backed by a {@link PersistentMap} from each element
+ * to {@code Boolean.TRUE}. {@link #with(Object)} and {@link #without(Object)} return a new set that
+ * shares all unchanged nodes with the original, so each update costs O(log n).
+ *
+ * <p>The set is unmodifiable through the {@code java.util.Set} interface and follows its
+ * {@code equals} and {@code hashCode} contracts, so it is equal to any other set with the same
+ * elements. {@code hashCode()} is maintained incrementally so that it costs O(1).
+ *
+ * @param <E> the type of elements
+ *
+ * @author speedbird-kk
+ * @see PersistentMap
+ * @since 2025
+ * @version 1.0
+ */
+public final class PersistentSet<E> extends AbstractSet<E> {
+    private static final PersistentSet<?> EMPTY = new PersistentSet<>(PersistentMap.empty(), 0);
+
+    private final PersistentMap<E, Boolean> map;
+    private final int hash;
+
+    private PersistentSet(PersistentMap<E, Boolean> map, int hash) {
+        this.map = map;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the empty set.
+     * @param <E> the type of elements
+     * @return the empty set
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> empty() {
+        return (PersistentSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set containing the elements of {@code collection}.
+     * @param <E> the type of elements
+     * @param collection the collection whose elements to copy
+     * @throws NullPointerException if {@code collection} is null or contains a null element
+     * @return the set containing the elements of {@code collection}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> copyOf(Collection<? extends E> collection) {
+        if (collection instanceof PersistentSet<?>) {
+            return (PersistentSet<E>) collection;
+        }
+
+        Builder<E> builder = PersistentSet.<E>empty().toBuilder();
+
+        for (E e : collection) {
+            builder.add(e);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a set with the elements of this set and {@code element}.
+     * @param element the element to add
+     * @throws NullPointerException if {@code element} is null
+     * @return the updated set, or this set if it already contains {@code element}
+     */
+    public PersistentSet<E> with(E element) {
+        PersistentMap<E, Boolean> updated = map.with(element, Boolean.TRUE);
+
+        return updated == map ? this : new PersistentSet<>(updated, hash + element.hashCode());
+    }
+
+    /**
+     * Returns a set with the elements of this set except {@code element}.
+     * @param element the element to remove
+     * @return the updated set, or this set if it does not contain {@code element}
+     */
+    public PersistentSet<E> without(Object element) {
+        PersistentMap<E, Boolean> updated = map.without(element);
+
+        return updated == map ? this : new PersistentSet<>(updated, hash - element.hashCode());
+    }
+
+    /**
+     * Returns a builder which starts with the elements of this set.
+     * @return a builder initialised with this set
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(map.toBuilder(), hash);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return map.containsKey(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return map.keyIterator();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * A mutable builder for a {@code PersistentSet}, editing in place the nodes it has already copied.
+     *
+     * @param <E> the type of elements
+     * @see PersistentMap.Builder
+     */
+    public static final class Builder<E> {
+        private final PersistentMap.Builder<E, Boolean> map;
+        private int hash;
+
+        private Builder(PersistentMap.Builder<E, Boolean> map, int hash) {
+            this.map = map;
+            this.hash = hash;
+        }
+
+        /**
+         * Adds {@code element} to the set.
+         * @param element the element to add
+         * @throws NullPointerException if {@code element} is null
+         * @return {@code true} if the set did not already contain {@code element}
+         */
+        public boolean add(E element) {
+            if (map.put(element, Boolean.TRUE) != null) {
+                return false;
+            }
+
+            hash += element.hashCode();
+            return true;
+        }
+
+        /**
+         * Removes {@code element} from the set.
+         * @param element the element to remove
+         * @return {@code true} if the set contained {@code element}
+         */
+        public boolean remove(Object element) {
+            if (map.remove(element) == null) {
+                return false;
+            }
+
+            hash -= element.hashCode();
+            return true;
+        }
+
+        public boolean contains(Object element) {
+            return map.containsKey(element);
+        }
+
+        public int size() {
+            return map.size();
+        }
+
+        /**
+         * Returns the set with the elements of this builder. The builder may still be used afterwards.
+         * @return the set with the elements of this builder
+         */
+        public PersistentSet<E> build() {
+            return map.size() == 0 ? empty() : new PersistentSet<>(map.build(), hash);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import java.util.Arrays;
+
+/**
+ * A disjoint-set forest over the elements {@code 0..size()-1}. More formally, a structure that
+ * maintains a partition of its elements under {@link #union(int, int)}, answering which block an
+ * element belongs to in near constant amortised time through path compression and union by rank.
+ *
+ * <p>Parents and ranks are stored in primitive arrays that grow when elements are added with
+ * {@link #add()}. The structure is mutable and not thread-safe.
+ *
+ * @author speedbird-kk
+ * @since 2025
+ * @version 1.0
+ */
+public final class UnionFind {
+    private int[] parents;
+    private byte[] ranks;
+    private int size;
+    private int count;
+
+    /**
+     * Constructs a union-find over the elements {@code 0..n-1}, each in its own block.
+     * @param n the number of elements
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public UnionFind(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must not be negative");
+        }
+
+        this.parents = new int[Math.max(n, 8)];
+        this.ranks = new byte[parents.length];
+        this.size = n;
+        this.count = n;
+
+        for (int i = 0; i < n; i++) {
+            parents[i] = i;
+        }
+    }
+
+    /**
+     * Adds a new element in its own block.
+     * @return the new element, equal to the previous {@code size()}
+     */
+    public int add() {
+        if (size == parents.length) {
+            parents = Arrays.copyOf(parents, 2 * size);
+            ranks = Arrays.copyOf(ranks, 2 * size);
+        }
+
+        parents[size] = size;
+        count++;
+        return size++;
+    }
+
+    /**
+     * Returns the representative of the block containing {@code x}, compressing the path from
+     * {@code x} to it.
+     * @param x the element
+     * @throws IndexOutOfBoundsException if {@code x} is not an element
+     * @return the representative of the block of {@code x}
+     */
+    public int find(int x) {
+        if (x < 0 || x >= size) {
+            throw new IndexOutOfBoundsException("Element " + x + " out of range for size " + size);
+        }
+
+        int root = x;
+
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+
+        while (parents[x] != root) {
+            int next = parents[x];
+            parents[x] = root;
+            x = next;
+        }
+
+        return root;
+    }
+
+    /**
+     * Merges the blocks containing {@code x} and {@code y}, attaching the root of lower rank below
+     * the root of higher rank.
+     * @param x the first element
+     * @param y the second element
+     * @throws IndexOutOfBoundsException if {@code x} or {@code y} is not an element
+     * @return {@code true} if {@code x} and {@code y} were in different blocks
+     */
+    public boolean union(int x, int y) {
+        int rx = find(x);
+        int ry = find(y);
+
+        if (rx == ry) {
+            return false;
+        }
+
+        if (ranks[rx] < ranks[ry]) {
+            int temp = rx;
+            rx = ry;
+            ry = temp;
+        }
+
+        parents[ry] = rx;
+
+        if (ranks[rx] == ranks[ry]) {
+            ranks[rx]++;
+        }
+
+        count--;
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if {@code x} and {@code y} are in the same block.
+     * @param x the first element
+     * @param y the second element
+     * @throws IndexOutOfBoundsException if {@code x} or {@code y} is not an element
+     * @return {@code true} if {@code x} and {@code y} are in the same block
+     */
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /**
+     * Returns the number of elements.
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of blocks in the partition.
+     * @return the number of blocks
+     */
+    public int count() {
+        return count;
+    }
+}
@@ -0,0 +1,447 @@
+package com.speedbirdkk.discretetoolkit.model.graph;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
+import com.speedbirdkk.discretetoolkit.model.relational.Relation;
+
+/**
+ * A compact representation of a directed graph, a set of vertices together with a set of
+ * ordered pairs of vertices called arcs. Every vertex is identified by a dense index
+ * {@code 0..n-1} as in {@link IntUGraph}.
+ *
+ * <p>This class models the directed graph in the following way:
+ * <ul>
+ *  <li>{@code labels} is an {@link Indexer}, the interning table between vertex indices and
+ *      vertices of type {@code A}, which may be shared with other structures on the same vertices.
+ *  <li>The arcs are stored twice in compressed sparse row form. The successors of the vertex
+ *      with index {@code i} are {@code outTargets[outOffsets[i]]..outTargets[outOffsets[i + 1] - 1]}
+ *      and its predecessors are {@code inTargets[inOffsets[i]]..inTargets[inOffsets[i + 1] - 1]},
+ *      each row sorted in increasing order.
+ * </ul>
+ *
+ * <p>A directed graph is the same object as a homogeneous relation {@code R ⊆ V × V}, so arcs
+ * from a vertex to itself are allowed, and {@link #fromRelation(Relation)} and {@link #toRelation()}
+ * convert in both directions. Arcs may not be repeated.
+ *
+ * @param <A> the type of vertices in the directed graph
+ *
+ * @author speedbird-kk
+ * @see Relation
+ * @since 2025
+ * @version 1.0
+ */
+public final class DGraph<A> implements Graph<A> {
+    /**
+     * Interning table between vertex indices and vertices.
+     */
+    private final Indexer<A> labels;
+
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] inOffsets;
+    private final int[] inTargets;
+
+    private DGraph(Indexer<A> labels, int[] outOffsets, int[] outTargets) {
+        this.labels = labels;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+
+        int n = labels.size();
+        int[] inOffsets = new int[n + 1];
+
+        for (int target : outTargets) {
+            inOffsets[target + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            inOffsets[i + 1] += inOffsets[i];
+        }
+
+        int[] inTargets = new int[outTargets.length];
+        int[] next = Arrays.copyOf(inOffsets, n);
+
+        // Sources are visited in increasing order, so every row of predecessors comes out sorted.
+        for (int i = 0; i < n; i++) {
+            for (int p = outOffsets[i]; p < outOffsets[i + 1]; p++) {
+                inTargets[next[outTargets[p]]++] = i;
+            }
+        }
+
+        this.inOffsets = inOffsets;
+        this.inTargets = inTargets;
+    }
+
+    /**
+     * Constructs a new directed graph from a list of vertices and the endpoints of its arcs given
+     * by index. For each {@code k} there is an arc from the vertex with index {@code sources[k]} to
+     * the vertex with index {@code targets[k]}.
+     * @param <A> the vertex type
+     * @param labels the list of vertices, where the position of a vertex is its index
+     * @param sources the tail of each arc
+     * @param targets the head of each arc
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code labels} contains duplicate elements, if the arrays
+     * differ in length, if an index is out of range or if an arc is given more than once
+     * @return the directed graph with the given vertices and arcs
+     */
+    public static <A> DGraph<A> fromIndices(List<A> labels, int[] sources, int[] targets) {
+        Objects.requireNonNull(labels, "List of vertices must not be null");
+
+        return fromIndices(Indexer.of(labels), sources, targets);
+    }
+
+    /**
+     * Constructs a new directed graph on the vertices of an existing indexer, which is shared rather
+     * than copied.
+     * @param <A> the vertex type
+     * @param labels the indexer of the vertices
+     * @param sources the tail of each arc
+     * @param targets the head of each arc
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the arrays differ in length, if an index is out of range or
+     * if an arc is given more than once
+     * @return the directed graph with the given vertices and arcs
+     * @see #fromIndices(List, int[], int[])
+     */
+    public static <A> DGraph<A> fromIndices(Indexer<A> labels, int[] sources, int[] targets) {
+        Objects.requireNonNull(labels, "Indexer of vertices must not be null");
+        Objects.requireNonNull(sources, "Array of endpoints must not be null");
+        Objects.requireNonNull(targets, "Array of endpoints must not be null");
+
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Arrays of endpoints must have the same length");
+        }
+
+        int n = labels.size();
+
+        for (int k = 0; k < sources.length; k++) {
+            if (sources[k] < 0 || sources[k] >= n || targets[k] < 0 || targets[k] >= n) {
+                throw new IllegalArgumentException("Arc endpoints must be valid vertex indices");
+            }
+        }
+
+        int[] offsets = new int[n + 1];
+
+        for (int source : sources) {
+            offsets[source + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] rows = new int[sources.length];
+        int[] next = Arrays.copyOf(offsets, n);
+
+        for (int k = 0; k < sources.length; k++) {
+            rows[next[sources[k]]++] = targets[k];
+        }
+
+        for (int i = 0; i < n; i++) {
+            Arrays.sort(rows, offsets[i], offsets[i + 1]);
+
+            for (int p = offsets[i] + 1; p < offsets[i + 1]; p++) {
+                if (rows[p] == rows[p - 1]) {
+                    throw new IllegalArgumentException("Arcs must not be given more than once");
+                }
+            }
+        }
+
+        return new DGraph<>(labels, offsets, rows);
+    }
+
+    /**
+     * Constructs the directed graph of a homogeneous relation. The vertices are the elements of the
+     * domain followed by the elements of the codomain not in the domain, and every pair (a, b) of
+     * the relation set is an arc from {@code a} to {@code b}.
+     * @param <A> the vertex type
+     * @param relation the relation
+     * @throws NullPointerException if {@code relation} is null
+     * @return the directed graph of {@code relation}
+     */
+    public static <A> DGraph<A> fromRelation(Relation<A, A> relation) {
+        Objects.requireNonNull(relation, "Relation must not be null");
+
+        Set<A> vertices = new LinkedHashSet<>(relation.domain());
+        vertices.addAll(relation.codomain());
+
+        Indexer<A> labels = Indexer.of(vertices);
+        Set<Pair<A, A>> pairs = relation.relationSet();
+        int[] sources = new int[pairs.size()];
+        int[] targets = new int[pairs.size()];
+        int k = 0;
+
+        for (Pair<A, A> pair : pairs) {
+            sources[k] = labels.indexOf(pair.a());
+            targets[k] = labels.indexOf(pair.b());
+            k++;
+        }
+
+        return fromIndices(labels, sources, targets);
+    }
+
+    /**
+     * Returns the homogeneous relation on the vertices of this graph whose relation set is the set
+     * of arcs. The domain and the codomain are both the set of vertices.
+     * @return the relation of this graph
+     */
+    public Relation<A, A> toRelation() {
+        return new Relation<>(vertices(), vertices(), arcs());
+    }
+
+    /**
+     * Returns the directed graph with the same vertices and every arc reversed, whose successor rows
+     * are the predecessor rows of this graph.
+     * @return the reverse of this graph
+     */
+    public DGraph<A> reversed() {
+        return new DGraph<>(labels, inOffsets, inTargets);
+    }
+
+    /**
+     * Returns the index of vertex {@code v}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the index of {@code v}
+     */
+    public int indexOf(A v) {
+        int i = labels.indexOf(v);
+
+        if (i < 0) {
+            throw new IllegalArgumentException("Vertex must be contained in the set of vertices");
+        }
+
+        return i;
+    }
+
+    /**
+     * Returns the vertex with index {@code i}.
+     * @param i the vertex index
+     * @throws IndexOutOfBoundsException if {@code i} is not between 0 and {@code verticesCount() - 1}
+     * @return the vertex with index {@code i}
+     */
+    public A label(int i) {
+        return labels.get(i);
+    }
+
+    /**
+     * Returns the interning table of the graph, where the position of each vertex is its index.
+     * @return the unmodifiable list of vertices ordered by index
+     */
+    public List<A> labels() {
+        return labels.elements();
+    }
+
+    /**
+     * Returns the indexer of the vertices, to share with other structures on the same vertices.
+     * @return the indexer of the vertices
+     */
+    public Indexer<A> indexer() {
+        return labels;
+    }
+
+    /**
+     * Returns {@code true} if the graph contains an arc from the vertex with index {@code i} to the
+     * vertex with index {@code j}, found by binary search in the row of successors of {@code i}.
+     * @param i the index of the tail
+     * @param j the index of the head
+     * @return {@code true} if there is an arc from {@code i} to {@code j}
+     */
+    public boolean hasArcAt(int i, int j) {
+        return Arrays.binarySearch(outTargets, outOffsets[i], outOffsets[i + 1], j) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if the graph contains an arc from vertex {@code u} to vertex {@code v}.
+     * @param u the tail
+     * @param v the head
+     * @return {@code true} if there is an arc from {@code u} to {@code v}
+     */
+    public boolean hasArc(A u, A v) {
+        int i = labels.indexOf(u);
+        int j = labels.indexOf(v);
+
+        return i >= 0 && j >= 0 && hasArcAt(i, j);
+    }
+
+    /**
+     * Returns the number of arcs leaving the vertex with index {@code i}.
+     * @param i the vertex index
+     * @return the out-degree of the vertex
+     */
+    public int outDegreeAt(int i) {
+        return outOffsets[i + 1] - outOffsets[i];
+    }
+
+    /**
+     * Returns the number of arcs entering the vertex with index {@code i}.
+     * @param i the vertex index
+     * @return the in-degree of the vertex
+     */
+    public int inDegreeAt(int i) {
+        return inOffsets[i + 1] - inOffsets[i];
+    }
+
+    /**
+     * Returns the set of vertices {@code w} such that there is an arc from {@code v} to {@code w}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the set of successors of {@code v}
+     */
+    public Set<A> successors(A v) {
+        return labelsOf(indexOf(v), outOffsets, outTargets);
+    }
+
+    /**
+     * Returns the set of vertices {@code u} such that there is an arc from {@code u} to {@code v}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the set of predecessors of {@code v}
+     */
+    public Set<A> predecessors(A v) {
+        return labelsOf(indexOf(v), inOffsets, inTargets);
+    }
+
+    private Set<A> labelsOf(int i, int[] offsets, int[] targets) {
+        Set<A> out = new HashSet<>();
+
+        for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+            out.add(labels.get(targets[p]));
+        }
+
+        return Collections.unmodifiableSet(out);
+    }
+
+    /**
+     * Returns the row offsets of the successor rows.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of row offsets of length {@code verticesCount() + 1}
+     */
+    public int[] outOffsets() {
+        return outOffsets;
+    }
+
+    /**
+     * Returns the successor indices of every vertex, sorted in increasing order within each row.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of successor indices of length {@code arcsCount()}
+     */
+    public int[] outTargets() {
+        return outTargets;
+    }
+
+    /**
+     * Returns the row offsets of the predecessor rows.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of row offsets of length {@code verticesCount() + 1}
+     */
+    public int[] inOffsets() {
+        return inOffsets;
+    }
+
+    /**
+     * Returns the predecessor indices of every vertex, sorted in increasing order within each row.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of predecessor indices of length {@code arcsCount()}
+     */
+    public int[] inTargets() {
+        return inTargets;
+    }
+
+    /**
+     * Returns the number of arcs in the graph.
+     * @return the number of arcs in the graph
+     */
+    public int arcsCount() {
+        return outTargets.length;
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     * @return the number of vertices in the graph
+     */
+    public int verticesCount() {
+        return labels.size();
+    }
+
+    /**
+     * Returns the set of vertices in the graph.
+     * @return the set of vertices
+     */
+    public Set<A> vertices() {
+        return labels.asSet();
+    }
+
+    /**
+     * Returns the set of arcs in the graph as ordered pairs. The set is built on every call.
+     * @return the set of arcs
+     */
+    public Set<Pair<A, A>> arcs() {
+        Set<Pair<A, A>> out = new HashSet<>();
+
+        for (int i = 0; i < verticesCount(); i++) {
+            for (int p = outOffsets[i]; p < outOffsets[i + 1]; p++) {
+                out.add(new Pair<>(labels.get(i), labels.get(outTargets[p])));
+            }
+        }
+
+        return Collections.unmodifiableSet(out);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DGraph<?>)) return false;
+
+        DGraph<?> other = (DGraph<?>) o;
+
+        if (this.verticesCount() != other.verticesCount()
+            || this.arcsCount() != other.arcsCount()
+            || !this.vertices().equals(other.vertices())) {
+            return false;
+        }
+
+        for (int i = 0; i < verticesCount(); i++) {
+            int otherI = other.labels.indexOf(labels.get(i));
+
+            for (int p = outOffsets[i]; p < outOffsets[i + 1]; p++) {
+                if (!other.hasArcAt(otherI, other.labels.indexOf(labels.get(outTargets[p])))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int arcsHash = 0;
+
+        for (int i = 0; i < verticesCount(); i++) {
+            for (int p = outOffsets[i]; p < outOffsets[i + 1]; p++) {
+                arcsHash += 31 * labels.get(i).hashCode() + labels.get(outTargets[p]).hashCode();
+            }
+        }
+
+        return Objects.hash(vertices(), arcsHash);
+    }
+
+    @Override
+    public String toString() {
+        return "(Vertices = " + vertices() + "\n"
+            + "Arcs = " + arcs() + ")";
+    }
+}
@@ -1,5 +1,5 @@
 package com.speedbirdkk.discretetoolkit.model.graph;
 
-public sealed interface Graph<A> permits UGraph {
+public sealed interface Graph<A> permits UGraph, IntUGraph, WUGraph, DGraph {
     
 }
@@ -0,0 +1,870 @@
+package com.speedbirdkk.discretetoolkit.model.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
+import com.speedbirdkk.discretetoolkit.model.collections.LongHashSet;
+
+/**
+ * A compact representation of a simple undirected graph in which every vertex is
+ * identified by a dense index {@code 0..n-1}. It models the same mathematical object
+ * as {@link UGraph}, a set of vertices together with a set of unordered pairs of distinct
+ * vertices, but stores the structure in primitive arrays instead of sets of objects.
+ *
+ * <p>This class models the simple undirected graph in the following way:
+ * <ul>
+ *  <li>{@code labels} is an {@link Indexer}, the interning table between vertex indices and
+ *      vertices of type {@code A}, which may be shared with other structures on the same vertices.
+ *  <li>The edges are stored in compressed sparse row form. The neighbours of the vertex with
+ *      index {@code i} are the indices {@code targets[offsets[i]]..targets[offsets[i + 1] - 1]},
+ *      sorted in increasing order. Every edge {u, v} therefore appears twice, once in the row of
+ *      {@code u} and once in the row of {@code v}.
+ * </ul>
+ *
+ * <p>An edge can also be handled as a single {@code long} key, see {@link #edgeKey(int, int)}. The keys
+ * of all edges are kept in a primitive hash set, built on first use, so that {@link #hasEdgeAt(int, int)}
+ * and {@link #forEachEdge(LongConsumer)} run without allocating.
+ *
+ * <p>Conversions to and from {@code UGraph} run in O(|V| + |E| log Δ), where Δ is the maximum degree,
+ * so graphs built with the factory methods of {@code UGraph} can be converted with
+ * {@link #fromUGraph(UGraph)}. The factory methods of this class, such as {@link #complete(List)}
+ * and {@link #grid(int, int)}, write the rows directly instead.
+ *
+ * @param <A> the type of vertices in the simple undirected graph
+ *
+ * @author speedbird-kk
+ * @see UGraph
+ * @since 2025
+ * @version 1.0
+ */
+public final class IntUGraph<A> implements Graph<A> {
+    /**
+     * Interning table between vertex indices and vertices.
+     */
+    private final Indexer<A> labels;
+
+    /**
+     * Row offsets into {@code targets}, of length {@code n + 1}.
+     */
+    private final int[] offsets;
+
+    /**
+     * Neighbour indices of every vertex, each row sorted in increasing order.
+     */
+    private final int[] targets;
+
+    /**
+     * Packed keys of all edges, built on first use.
+     * @see #edgeKey(int, int)
+     */
+    private volatile LongHashSet edgeKeys;
+
+    private IntUGraph(Indexer<A> labels, int[] offsets, int[] targets) {
+        this.labels = labels;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Constructs a new compact simple undirected graph from a list of vertices and the
+     * endpoints of its edges given by index.
+     *
+     * <p>The vertex {@code labels.get(i)} receives the index {@code i}, and for each {@code k} the
+     * pair {@code us[k]}, {@code vs[k]} is an edge between the vertices with those indices.
+     * @param <A> the vertex type
+     * @param labels the list of vertices, where the position of a vertex is its index
+     * @param us the first endpoint of each edge
+     * @param vs the second endpoint of each edge
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code labels} contains duplicate elements, if {@code us}
+     * and {@code vs} differ in length, if an index is out of range, if an edge is a self-loop or
+     * if an edge is given more than once
+     * @return the compact graph with the given vertices and edges
+     */
+    public static <A> IntUGraph<A> fromIndices(List<A> labels, int[] us, int[] vs) {
+        Objects.requireNonNull(labels, "List of vertices must not be null");
+
+        return fromIndices(Indexer.of(labels), us, vs);
+    }
+
+    /**
+     * Constructs a new compact simple undirected graph on the vertices of an existing indexer,
+     * which is shared rather than copied.
+     * @param <A> the vertex type
+     * @param labels the indexer of the vertices
+     * @param us the first endpoint of each edge
+     * @param vs the second endpoint of each edge
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code us} and {@code vs} differ in length, if an index is
+     * out of range, if an edge is a self-loop or if an edge is given more than once
+     * @return the compact graph with the given vertices and edges
+     * @see #fromIndices(List, int[], int[])
+     */
+    public static <A> IntUGraph<A> fromIndices(Indexer<A> labels, int[] us, int[] vs) {
+        Objects.requireNonNull(labels, "Indexer of vertices must not be null");
+        Objects.requireNonNull(us, "Array of endpoints must not be null");
+        Objects.requireNonNull(vs, "Array of endpoints must not be null");
+
+        if (us.length != vs.length) {
+            throw new IllegalArgumentException("Arrays of endpoints must have the same length");
+        }
+
+        int n = labels.size();
+
+        for (int k = 0; k < us.length; k++) {
+            if (us[k] < 0 || us[k] >= n || vs[k] < 0 || vs[k] >= n) {
+                throw new IllegalArgumentException("Edge endpoints must be valid vertex indices");
+            }
+
+            if (us[k] == vs[k]) {
+                throw new IllegalArgumentException("Self-loops not allowed for simple graphs");
+            }
+        }
+
+        int[] offsets = new int[n + 1];
+
+        for (int k = 0; k < us.length; k++) {
+            offsets[us[k] + 1]++;
+            offsets[vs[k] + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] next = Arrays.copyOf(offsets, n);
+
+        for (int k = 0; k < us.length; k++) {
+            targets[next[us[k]]++] = vs[k];
+            targets[next[vs[k]]++] = us[k];
+        }
+
+        sortRows(offsets, targets);
+
+        for (int i = 0; i < n; i++) {
+            for (int p = offsets[i] + 1; p < offsets[i + 1]; p++) {
+                if (targets[p] == targets[p - 1]) {
+                    throw new IllegalArgumentException("Edges must not be given more than once");
+                }
+            }
+        }
+
+        return new IntUGraph<>(labels, offsets, targets);
+    }
+
+    /**
+     * Constructs a new compact simple undirected graph from a list of vertices and the packed
+     * keys of its edges.
+     * @param <A> the vertex type
+     * @param labels the list of vertices, where the position of a vertex is its index
+     * @param keys the packed key of each edge
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException under the same conditions as {@link #fromIndices(List, int[], int[])}
+     * @return the compact graph with the given vertices and edges
+     * @see #edgeKey(int, int)
+     */
+    public static <A> IntUGraph<A> fromEdgeKeys(List<A> labels, long[] keys) {
+        Objects.requireNonNull(keys, "Array of edge keys must not be null");
+
+        int[] us = new int[keys.length];
+        int[] vs = new int[keys.length];
+
+        for (int k = 0; k < keys.length; k++) {
+            us[k] = edgeKeyFirst(keys[k]);
+            vs[k] = edgeKeySecond(keys[k]);
+        }
+
+        return fromIndices(labels, us, vs);
+    }
+
+    /**
+     * Constructs the compact representation of a {@code UGraph}.
+     *
+     * <p>Vertices receive indices in the iteration order of {@code g.vertices()} and each row of
+     * neighbours is filled from the adjacency index of {@code g}, so no edge objects are created.
+     * @param <A> the vertex type
+     * @param g the graph to convert
+     * @throws NullPointerException if {@code g} is null
+     * @return the compact graph with the same vertices and edges as {@code g}
+     */
+    public static <A> IntUGraph<A> fromUGraph(UGraph<A> g) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+
+        Indexer<A> labels = Indexer.of(g.vertices());
+        int n = labels.size();
+
+        int[] offsets = new int[n + 1];
+
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + g.neighbours(labels.get(i)).size();
+        }
+
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            int p = offsets[i];
+
+            for (A w : g.neighbours(labels.get(i))) {
+                targets[p++] = labels.indexOf(w);
+            }
+        }
+
+        sortRows(offsets, targets);
+
+        return new IntUGraph<>(labels, offsets, targets);
+    }
+
+    /**
+     * Returns the {@code UGraph} with the same vertices and edges as this graph.
+     * @return the graph as a {@code UGraph}
+     */
+    public UGraph<A> toUGraph() {
+        return new UGraph<>(vertices(), edges());
+    }
+
+    /**
+     * Constructs the compact complete graph on a list of vertices.
+     *
+     * <p>The rows are written directly, row {@code i} holding every index except {@code i}, so no
+     * edges or pairs of vertices are materialised.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices, where the position of a vertex is its index
+     * @throws NullPointerException if {@code vertices} is null
+     * @throws IllegalArgumentException if {@code vertices} contains duplicate elements or if the graph
+     * has more incidences than fit in an array
+     * @return the complete graph on {@code vertices}
+     */
+    public static <A> IntUGraph<A> complete(List<A> vertices) {
+        Objects.requireNonNull(vertices, "List of vertices must not be null");
+
+        int n = vertices.size();
+        int[] offsets = offsetsOf(n, i -> n - 1);
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            int p = offsets[i];
+
+            for (int j = 0; j < n; j++) {
+                if (j != i) {
+                    targets[p++] = j;
+                }
+            }
+        }
+
+        return ofRows(vertices, offsets, targets);
+    }
+
+    /**
+     * Constructs the compact complete bipartite graph between two lists of vertices. The vertices
+     * of {@code left} receive the first indices and the vertices of {@code right} the following ones.
+     * @param <A> the vertex type
+     * @param left the first side of the bipartition
+     * @param right the second side of the bipartition
+     * @throws NullPointerException if {@code left} or {@code right} is null
+     * @throws IllegalArgumentException if the lists contain duplicate elements, together or within
+     * themselves, or if the graph has more incidences than fit in an array
+     * @return the complete bipartite graph between {@code left} and {@code right}
+     */
+    public static <A> IntUGraph<A> completeBipartite(List<A> left, List<A> right) {
+        Objects.requireNonNull(left, "List of vertices must not be null");
+        Objects.requireNonNull(right, "List of vertices must not be null");
+
+        int a = left.size();
+        int n = a + right.size();
+        int[] offsets = offsetsOf(n, i -> i < a ? n - a : a);
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            int p = offsets[i];
+            int from = i < a ? a : 0;
+            int to = i < a ? n : a;
+
+            for (int j = from; j < to; j++) {
+                targets[p++] = j;
+            }
+        }
+
+        List<A> labels = new ArrayList<>(left);
+        labels.addAll(right);
+
+        return ofRows(labels, offsets, targets);
+    }
+
+    /**
+     * Constructs the compact star graph on a list of vertices, with {@code centre} adjacent to every
+     * other vertex.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices, where the position of a vertex is its index
+     * @param centre the centre vertex
+     * @throws NullPointerException if {@code vertices} or {@code centre} is null
+     * @throws IllegalArgumentException if {@code vertices} contains duplicate elements or does not
+     * contain {@code centre}
+     * @return the star graph on {@code vertices} with {@code centre} as the central vertex
+     */
+    public static <A> IntUGraph<A> star(List<A> vertices, A centre) {
+        Objects.requireNonNull(vertices, "List of vertices must not be null");
+        Objects.requireNonNull(centre, "Centre vertex must not be null");
+
+        int c = vertices.indexOf(centre);
+
+        if (c < 0) {
+            throw new IllegalArgumentException("Centre vertex must be contained in the set of vertices");
+        }
+
+        int n = vertices.size();
+        int[] offsets = offsetsOf(n, i -> i == c ? n - 1 : 1);
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            if (i == c) {
+                int p = offsets[i];
+
+                for (int j = 0; j < n; j++) {
+                    if (j != c) {
+                        targets[p++] = j;
+                    }
+                }
+            } else {
+                targets[offsets[i]] = c;
+            }
+        }
+
+        return ofRows(vertices, offsets, targets);
+    }
+
+    /**
+     * Constructs the compact path graph through a list of vertices, with an edge between each two
+     * consecutive vertices.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices, where the position of a vertex is its index
+     * @throws NullPointerException if {@code vertices} is null
+     * @throws IllegalArgumentException if {@code vertices} contains duplicate elements
+     * @return the path graph through {@code vertices}
+     */
+    public static <A> IntUGraph<A> path(List<A> vertices) {
+        Objects.requireNonNull(vertices, "List of vertices must not be null");
+
+        int n = vertices.size();
+        int[] offsets = offsetsOf(n, i -> (i > 0 ? 1 : 0) + (i < n - 1 ? 1 : 0));
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            int p = offsets[i];
+
+            if (i > 0) {
+                targets[p++] = i - 1;
+            }
+
+            if (i < n - 1) {
+                targets[p] = i + 1;
+            }
+        }
+
+        return ofRows(vertices, offsets, targets);
+    }
+
+    /**
+     * Constructs the compact cycle graph through a list of vertices, with an edge between each two
+     * consecutive vertices and between the last vertex and the first.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices, where the position of a vertex is its index
+     * @throws NullPointerException if {@code vertices} is null
+     * @throws IllegalArgumentException if {@code vertices} has less than 3 elements or contains
+     * duplicate elements
+     * @return the cycle graph through {@code vertices}
+     */
+    public static <A> IntUGraph<A> cycle(List<A> vertices) {
+        Objects.requireNonNull(vertices, "List of vertices must not be null");
+
+        int n = vertices.size();
+
+        if (n < 3) {
+            throw new IllegalArgumentException("List of vertices in a cycle must contain at least 3 elements");
+        }
+
+        int[] offsets = offsetsOf(n, i -> 2);
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            int previous = (i + n - 1) % n;
+            int next = (i + 1) % n;
+
+            targets[offsets[i]] = Math.min(previous, next);
+            targets[offsets[i] + 1] = Math.max(previous, next);
+        }
+
+        return ofRows(vertices, offsets, targets);
+    }
+
+    /**
+     * Constructs the compact grid graph with {@code rows} rows and {@code columns} columns. The
+     * vertex in row {@code r} and column {@code c} is the integer {@code r * columns + c}, which is
+     * also its index, and it is adjacent to the vertices directly above, below, left and right of it.
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @throws IllegalArgumentException if {@code rows} or {@code columns} is negative, or if the
+     * graph has more vertices or incidences than fit in an array
+     * @return the grid graph
+     */
+    public static IntUGraph<Integer> grid(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Number of rows and columns must not be negative");
+        }
+
+        if ((long) rows * columns > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph has too many vertices for a compact representation");
+        }
+
+        int n = rows * columns;
+        int[] offsets = offsetsOf(n, i -> {
+            int r = i / columns;
+            int c = i % columns;
+
+            return (r > 0 ? 1 : 0) + (c > 0 ? 1 : 0) + (c < columns - 1 ? 1 : 0) + (r < rows - 1 ? 1 : 0);
+        });
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            int r = i / columns;
+            int c = i % columns;
+            int p = offsets[i];
+
+            if (r > 0) {
+                targets[p++] = i - columns;
+            }
+
+            if (c > 0) {
+                targets[p++] = i - 1;
+            }
+
+            if (c < columns - 1) {
+                targets[p++] = i + 1;
+            }
+
+            if (r < rows - 1) {
+                targets[p] = i + columns;
+            }
+        }
+
+        return ofRows(integers(n), offsets, targets);
+    }
+
+    /**
+     * Constructs the compact hypercube graph of the given dimension. The vertices are the integers
+     * {@code 0..2^dimension - 1}, which are also their indices, and two vertices are adjacent if
+     * their binary representations differ in exactly one bit.
+     * @param dimension the dimension of the hypercube
+     * @throws IllegalArgumentException if {@code dimension} is negative or greater than 25
+     * @return the hypercube graph
+     */
+    public static IntUGraph<Integer> hypercube(int dimension) {
+        if (dimension < 0 || dimension > 25) {
+            throw new IllegalArgumentException("Dimension of a hypercube must be between 0 and 25");
+        }
+
+        int n = 1 << dimension;
+        int[] offsets = offsetsOf(n, i -> dimension);
+        int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            int p = offsets[i];
+
+            for (int k = dimension - 1; k >= 0; k--) {
+                if ((i & (1 << k)) != 0) {
+                    targets[p++] = i ^ (1 << k);
+                }
+            }
+
+            for (int k = 0; k < dimension; k++) {
+                if ((i & (1 << k)) == 0) {
+                    targets[p++] = i ^ (1 << k);
+                }
+            }
+        }
+
+        return ofRows(integers(n), offsets, targets);
+    }
+
+    /**
+     * Returns the row offsets for {@code n} vertices with the given degrees, checking that the
+     * incidences fit in an array.
+     */
+    private static int[] offsetsOf(int n, IntUnaryOperator degree) {
+        int[] offsets = new int[n + 1];
+        long total = 0;
+
+        for (int i = 0; i < n; i++) {
+            total += degree.applyAsInt(i);
+
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Graph has too many edges for a compact representation");
+            }
+
+            offsets[i + 1] = (int) total;
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Constructs a graph from rows that are already sorted and consistent with each other.
+     */
+    private static <A> IntUGraph<A> ofRows(List<A> labels, int[] offsets, int[] targets) {
+        return new IntUGraph<>(Indexer.of(labels), offsets, targets);
+    }
+
+    private static List<Integer> integers(int n) {
+        Integer[] out = new Integer[n];
+
+        for (int i = 0; i < n; i++) {
+            out[i] = i;
+        }
+
+        return Arrays.asList(out);
+    }
+
+    private static void sortRows(int[] offsets, int[] targets) {
+        for (int i = 0; i < offsets.length - 1; i++) {
+            Arrays.sort(targets, offsets[i], offsets[i + 1]);
+        }
+    }
+
+    /**
+     * Returns the canonical packed key of the edge between the vertices with indices {@code i}
+     * and {@code j}. The smaller index is stored in the high 32 bits and the larger index in the
+     * low 32 bits, so {@code edgeKey(i, j) == edgeKey(j, i)}.
+     * @param i the index of the first vertex
+     * @param j the index of the second vertex
+     * @return the packed key of the edge
+     */
+    public static long edgeKey(int i, int j) {
+        return i < j
+            ? ((long) i << 32) | (j & 0xFFFFFFFFL)
+            : ((long) j << 32) | (i & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the smaller vertex index of a packed edge key.
+     * @param key the packed key of an edge
+     * @return the smaller vertex index
+     */
+    public static int edgeKeyFirst(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Returns the larger vertex index of a packed edge key.
+     * @param key the packed key of an edge
+     * @return the larger vertex index
+     */
+    public static int edgeKeySecond(long key) {
+        return (int) key;
+    }
+
+    private LongHashSet edgeKeys() {
+        LongHashSet keys = edgeKeys;
+
+        if (keys == null) {
+            synchronized (this) {
+                keys = edgeKeys;
+
+                if (keys == null) {
+                    LongHashSet built = new LongHashSet(edgesCount());
+                    forEachEdge(built::add);
+                    edgeKeys = keys = built;
+                }
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * Performs {@code action} for the packed key of each edge, in increasing order of key.
+     * No objects are created for the edges.
+     * @param action the action to perform
+     * @see #edgeKey(int, int)
+     */
+    public void forEachEdge(LongConsumer action) {
+        for (int i = 0; i < verticesCount(); i++) {
+            int start = Arrays.binarySearch(targets, offsets[i], offsets[i + 1], i + 1);
+            start = start >= 0 ? start : -start - 1;
+
+            for (int p = start; p < offsets[i + 1]; p++) {
+                action.accept(edgeKey(i, targets[p]));
+            }
+        }
+    }
+
+    /**
+     * Returns a stream of the packed keys of all edges, in increasing order of key.
+     * The stream is lazy: rows are read from the adjacency arrays as the stream is consumed, so no
+     * buffer of the edge keys is allocated.
+     * @return the stream of packed edge keys
+     * @see #edgeKey(int, int)
+     */
+    public LongStream edgeKeyStream() {
+        return LongStream.range(0, verticesCount()).flatMap(row -> {
+            int i = (int) row;
+            int start = Arrays.binarySearch(targets, offsets[i], offsets[i + 1], i + 1);
+            start = start >= 0 ? start : -start - 1;
+
+            return IntStream.range(start, offsets[i + 1]).mapToLong(p -> edgeKey(i, targets[p]));
+        });
+    }
+
+    /**
+     * Returns the index of vertex {@code v}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the index of {@code v}
+     */
+    public int indexOf(A v) {
+        int i = labels.indexOf(v);
+
+        if (i < 0) {
+            throw new IllegalArgumentException("Vertex must be contained in the set of vertices");
+        }
+
+        return i;
+    }
+
+    /**
+     * Returns the vertex with index {@code i}.
+     * @param i the vertex index
+     * @throws IndexOutOfBoundsException if {@code i} is not between 0 and {@code verticesCount() - 1}
+     * @return the vertex with index {@code i}
+     */
+    public A label(int i) {
+        return labels.get(i);
+    }
+
+    /**
+     * Returns the interning table of the graph, where the position of each vertex is its index.
+     * @return the unmodifiable list of vertices ordered by index
+     */
+    public List<A> labels() {
+        return labels.elements();
+    }
+
+    /**
+     * Returns the indexer of the vertices, to share with other structures on the same vertices.
+     * @return the indexer of the vertices
+     */
+    public Indexer<A> indexer() {
+        return labels;
+    }
+
+    /**
+     * Returns {@code true} if the graph contains an edge between the vertices with indices
+     * {@code i} and {@code j}.
+     *
+     * <p>Looks up the packed key of the edge in the primitive set of edge keys, so no objects are created.
+     * @param i the index of the first vertex
+     * @param j the index of the second vertex
+     * @return {@code true} if the vertices with indices {@code i} and {@code j} are adjacent
+     */
+    public boolean hasEdgeAt(int i, int j) {
+        return i != j && edgeKeys().contains(edgeKey(i, j));
+    }
+
+    /**
+     * Returns {@code true} if the graph contains an edge between vertex {@code v} and
+     * vertex {@code u}.
+     * @param v
+     * @param u
+     * @return {@code true} if the vertex {@code v} is adjacent to vertex {@code u} in the graph
+     */
+    public boolean hasEdge(A v, A u) {
+        int i = labels.indexOf(v);
+        int j = labels.indexOf(u);
+
+        return i >= 0 && j >= 0 && hasEdgeAt(i, j);
+    }
+
+    /**
+     * Returns the degree of the vertex with index {@code i}.
+     * @param i the vertex index
+     * @return the number of neighbours of the vertex with index {@code i}
+     */
+    public int degreeAt(int i) {
+        return offsets[i + 1] - offsets[i];
+    }
+
+    /**
+     * Returns the degree of vertex {@code v}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the number of edges the vertex {@code v} is a part of
+     */
+    public long degree(A v) {
+        return degreeAt(indexOf(v));
+    }
+
+    /**
+     * Returns the set of vertices that are adjacent to vertex {@code v}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the set of neighbours of {@code v}
+     */
+    public Set<A> neighbours(A v) {
+        int i = indexOf(v);
+        Set<A> out = new HashSet<>();
+
+        for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+            out.add(labels.get(targets[p]));
+        }
+
+        return Collections.unmodifiableSet(out);
+    }
+
+    /**
+     * Returns the row offsets of the compressed sparse row layout. The neighbours of the vertex
+     * with index {@code i} are stored in {@link #targets()} from {@code offsets()[i]} inclusive to
+     * {@code offsets()[i + 1]} exclusive.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of row offsets of length {@code verticesCount() + 1}
+     */
+    public int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the neighbour indices of the compressed sparse row layout, sorted in increasing
+     * order within each row.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of neighbour indices of length {@code incidencesCount()}
+     */
+    public int[] targets() {
+        return targets;
+    }
+
+    /**
+     * Returns the number of incidences in the graph, twice the number of edges.
+     * @return the number of incidences in the graph
+     */
+    public int incidencesCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the number of edges in the graph.
+     * @return the number of edges in the graph
+     */
+    public int edgesCount() {
+        return targets.length / 2;
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     * @return the number of vertices in the graph
+     */
+    public int verticesCount() {
+        return labels.size();
+    }
+
+    /**
+     * Returns the non-increasing degree sequence of the graph as a list.
+     * @return the non-increasing degree sequence of the graph as a list
+     */
+    public List<Long> degreeSequence() {
+        int n = verticesCount();
+        long[] degrees = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            degrees[i] = degreeAt(i);
+        }
+
+        Arrays.sort(degrees);
+
+        List<Long> out = new ArrayList<>(n);
+
+        for (int i = n - 1; i >= 0; i--) {
+            out.add(degrees[i]);
+        }
+
+        return Collections.unmodifiableList(out);
+    }
+
+    /**
+     * Returns the set of vertices in the graph.
+     * @return the set of vertices
+     */
+    public Set<A> vertices() {
+        return labels.asSet();
+    }
+
+    /**
+     * Returns the set of edges in the graph. The set is built on every call.
+     * @return the set of edges
+     */
+    public Set<UEdge<A>> edges() {
+        Set<UEdge<A>> out = new HashSet<>();
+
+        for (int i = 0; i < verticesCount(); i++) {
+            for (int p = offsets[i]; p < offsets[i + 1] && targets[p] < i; p++) {
+                out.add(new UEdge<>(labels.get(i), labels.get(targets[p])));
+            }
+        }
+
+        return Collections.unmodifiableSet(out);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntUGraph<?>)) return false;
+
+        IntUGraph<?> other = (IntUGraph<?>) o;
+
+        if (this.verticesCount() != other.verticesCount()
+            || this.edgesCount() != other.edgesCount()
+            || !this.vertices().equals(other.vertices())) {
+            return false;
+        }
+
+        for (int i = 0; i < verticesCount(); i++) {
+            int otherI = other.labels.indexOf(labels.get(i));
+
+            for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                if (!other.hasEdgeAt(otherI, other.labels.indexOf(labels.get(targets[p])))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int edgesHash = 0;
+
+        for (int i = 0; i < verticesCount(); i++) {
+            for (int p = offsets[i]; p < offsets[i + 1] && targets[p] < i; p++) {
+                edgesHash += labels.get(i).hashCode() ^ labels.get(targets[p]).hashCode();
+            }
+        }
+
+        return Objects.hash(vertices(), edgesHash);
+    }
+
+    @Override
+    public String toString() {
+        return "(Vertices = " + vertices() + "\n"
+            + "Edges = " + edges() + ")";
+    }
+}
@@ -17,7 +17,10 @@ import com.speedbirdkk.discretetoolkit.exceptions.InvalidEdgeException;
  * {@code u} and {@code v} are stored internally in a canonical order. This is done by
  * comparing {@code hashCode()} and using {@code toString()} as a tiebreaker in case {@code hashCode()}
  * is equal for {@code u} and {@code v}. Therefore, ensure that {@code toString()} for objects of type
- * {@code <A>} are stable and deterministic.
+ * {@code <A>} are stable and deterministic. Each hash code is computed once, and {@code toString()}
+ * is only called on a hash collision, so edges between interned or integer vertices are canonicalised
+ * without allocating. For allocation-free edge handling on large graphs, see the packed {@code long}
+ * edge keys of {@link IntUGraph#edgeKey(int, int)}.
  * 
  * @param <A> the type of vertices that form the undirected edge.
  * 
@@ -40,9 +43,11 @@ public record UEdge<A>(A u, A v) {
             throw new InvalidEdgeException("Self-loops not allowed for simple graphs");
         }
 
-        if (u.hashCode() > v.hashCode()
-            || (u.hashCode() == v.hashCode() 
-                && !u.equals(v) 
+        int uHash = u.hashCode();
+        int vHash = v.hashCode();
+
+        if (uHash > vHash
+            || (uHash == vHash
                 && u.toString().compareTo(v.toString()) > 0)) {
             
             A temp = u;
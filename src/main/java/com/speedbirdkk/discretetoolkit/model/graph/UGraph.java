@@ -2,16 +2,23 @@ package com.speedbirdkk.discretetoolkit.model.graph;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import com.speedbirdkk.discretetoolkit.model.collections.PersistentMap;
+import com.speedbirdkk.discretetoolkit.model.collections.PersistentSet;
+import com.speedbirdkk.discretetoolkit.model.collections.UnionFind;
 import com.speedbirdkk.discretetoolkit.model.relational.Relation;
-import com.speedbirdkk.discretetoolkit.utils.Sets;
 import com.speedbirdkk.discretetoolkit.utils.Validate;
 
 /**
@@ -34,6 +41,10 @@ import com.speedbirdkk.discretetoolkit.utils.Validate;
  *      the condition of no self-loops is enforced in the construction of {@code UEdge}.
  * </ul>
  * 
+ * <p>The graph is immutable. Its sets are persistent hash array mapped tries, so the edit methods
+ * such as {@link #addEdge(UEdge)} return a new graph that shares structure with this one and cost
+ * O(log n) per changed edge rather than a copy of the whole graph.
+ * 
  * @param <A> the type of vertices in the simple undirected graph
  * 
  * @author speedbird-kk
@@ -46,13 +57,25 @@ public final class UGraph<A> implements Graph<A> {
     /**
      * Set of vertices in the graph with vertex type {@code A}
      */
-    private final Set<A> vertices;
+    private final PersistentSet<A> vertices;
 
     /**
      * Set of edges in the graph with each edge represented as a {@code UEdge<A>} object.
      * @see UEdge
      */
-    private final Set<UEdge<A>> edges;
+    private final PersistentSet<UEdge<A>> edges;
+
+    /**
+     * Adjacency index mapping each vertex to the set of its neighbours. It is kept in step with
+     * {@code edges} so that neighbourhood queries do not scan the set {@code edges}.
+     */
+    private final PersistentMap<A, PersistentSet<A>> adjacency;
+
+    /**
+     * Connectivity of the graph, computed on first query and handed on to the graphs produced by
+     * {@link #addEdge(UEdge)} and {@link #subdivideEdge(Object, UEdge)}.
+     */
+    private volatile Connectivity.Version<A> connectivity;
 
     /**
      * Constructs a new simple undirected graph from a set of vertices and
@@ -61,8 +84,64 @@ public final class UGraph<A> implements Graph<A> {
      * @param edges the set of undirected edges, {@code UEdge} objects, in the graph
      */
     public UGraph(Set<A> vertices, Set<UEdge<A>> edges) {
-        this.vertices = Set.copyOf(vertices);
-        this.edges = Set.copyOf(edges);
+        this.vertices = PersistentSet.copyOf(vertices);
+        this.edges = PersistentSet.copyOf(edges);
+        this.adjacency = adjacencyOf(this.vertices, this.edges);
+    }
+
+    /**
+     * Constructs a graph from persistent sets that are already consistent with each other.
+     * Used by the edit methods, which share structure with the graph they are called on.
+     */
+    private UGraph(
+        PersistentSet<A> vertices,
+        PersistentSet<UEdge<A>> edges,
+        PersistentMap<A, PersistentSet<A>> adjacency
+    ) {
+        this.vertices = vertices;
+        this.edges = edges;
+        this.adjacency = adjacency;
+    }
+
+    /**
+     * Builds the adjacency index of a graph in one pass over its vertices and edges.
+     * 
+     * <p>Every vertex in {@code vertices} is mapped to a set, empty if the vertex is isolated,
+     * and each edge {u, v} adds {@code v} to the set of {@code u} and {@code u} to the set of {@code v}.
+     * @param <A> the vertex type
+     * @param vertices the set of vertices
+     * @param edges the set of edges
+     * @return the map from each vertex to its set of neighbours
+     */
+    private static <A> PersistentMap<A, PersistentSet<A>> adjacencyOf(Set<A> vertices, Set<UEdge<A>> edges) {
+        Map<A, PersistentSet.Builder<A>> builders = new HashMap<>();
+
+        for (A v : vertices) {
+            builders.put(v, PersistentSet.<A>empty().toBuilder());
+        }
+
+        for (UEdge<A> e : edges) {
+            builders.computeIfAbsent(e.u(), k -> PersistentSet.<A>empty().toBuilder()).add(e.v());
+            builders.computeIfAbsent(e.v(), k -> PersistentSet.<A>empty().toBuilder()).add(e.u());
+        }
+
+        PersistentMap.Builder<A, PersistentSet<A>> adjacency = PersistentMap.<A, PersistentSet<A>>empty().toBuilder();
+
+        for (Map.Entry<A, PersistentSet.Builder<A>> e : builders.entrySet()) {
+            adjacency.put(e.getKey(), e.getValue().build());
+        }
+
+        return adjacency.build();
+    }
+
+    /**
+     * Returns the neighbours of {@code v} in the adjacency index, or the empty set if {@code v}
+     * has no entry.
+     */
+    private PersistentSet<A> adjacent(A v) {
+        PersistentSet<A> neighbours = adjacency.get(v);
+
+        return neighbours == null ? PersistentSet.empty() : neighbours;
     }
 
     /**
@@ -135,6 +214,11 @@ public final class UGraph<A> implements Graph<A> {
      * <p>For a set of vertices {@code V} of size {@code n}, this returns the graph
      * containing all {@code n(n-1)/2} possible unordered edges between distinct
      * vertices so that every pair of vertices is adjacent
+     * 
+     * <p>The edges are generated directly from pairs of positions in the set. The neighbourhood
+     * of each vertex is the set of vertices without it, so all neighbourhoods share structure and
+     * the adjacency index costs O(n log n) rather than O(n^2). See also
+     * {@link IntUGraph#complete(List)} for a compact representation.
      * @param <A> the vertex type
      * @param vertices the set of vertices V
      * @throws NullPointerException if set {@code vertices} is null
@@ -149,12 +233,20 @@ public final class UGraph<A> implements Graph<A> {
                 "Set of vertices must have more than 2 elements for a complete graph");
         }
 
-        Set<UEdge<A>> edges = Sets.choose(vertices, 2).stream()
-            .map(ArrayList::new)
-            .map(list -> new UEdge<>(list.get(0), list.get(1)))
-            .collect(Collectors.toSet());
-        
-        return new UGraph<>(vertices, edges);
+        PersistentSet<A> all = PersistentSet.copyOf(vertices);
+        List<A> order = new ArrayList<>(all);
+        PersistentSet.Builder<UEdge<A>> edges = PersistentSet.<UEdge<A>>empty().toBuilder();
+        PersistentMap.Builder<A, PersistentSet<A>> adjacency = PersistentMap.<A, PersistentSet<A>>empty().toBuilder();
+
+        for (int i = 0; i < order.size(); i++) {
+            for (int j = i + 1; j < order.size(); j++) {
+                edges.add(new UEdge<>(order.get(i), order.get(j)));
+            }
+
+            adjacency.put(order.get(i), all.without(order.get(i)));
+        }
+
+        return new UGraph<>(all, edges.build(), adjacency.build());
     }
 
     /**
@@ -263,20 +355,25 @@ public final class UGraph<A> implements Graph<A> {
      * adjacent (a neighbour of) vertex {@code u}.
      * 
      * <p>Returns true if and only if the set of edges {@link UGraph#edges} contains the {@code UEdge}
-     * with components {@code v} and {@code u}.
+     * with components {@code v} and {@code u}. The check is a lookup in the adjacency index, so no
+     * {@code UEdge} is constructed, and {@code hasEdge(v, v)} returns {@code false} since the graph
+     * has no self-loops.
      * @param v
      * @param u
      * @return {@code true} if the vertex {@code v} is adjacent to vertex {@code u} in the graph
      */
     public boolean hasEdge(A v, A u) {
-        return edges.contains(new UEdge<A>(u, v));
+        Set<A> neighbours = adjacency.get(v);
+
+        return neighbours != null && neighbours.contains(u);
     }
 
     /**
      * Returns the degree of vertex {@code v}.
      * 
      * <p>Counts the number of edges that the vertex {@code v} is a part of and returns the result.
-     * {@code v} is a part of an edge if the {@code UEdge} has one of its components equal to {@code v}
+     * {@code v} is a part of an edge if the {@code UEdge} has one of its components equal to {@code v}.
+     * This is the size of the neighbourhood of {@code v} in the adjacency index.
      * @param v the vertex
      * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
      * @return the number of edges the vertex {@code v} is a part of
@@ -286,9 +383,7 @@ public final class UGraph<A> implements Graph<A> {
             throw new IllegalArgumentException("Vertex must be contained in the set of vertices");
         }
 
-        return edges.stream()
-            .filter(e -> e.u().equals(v) || e.v().equals(v))
-            .count();
+        return adjacency.get(v).size();
     }
 
     /**
@@ -297,7 +392,8 @@ public final class UGraph<A> implements Graph<A> {
      * 
      * <p>Returns a subset of the set of all {@code vertices} in the graph such that each vertex, {@code w},
      * in the subset is adjacent to {@code v}, hence the set of edges contains the {@code UEdge} with
-     * components {@code v} and {@code w}.
+     * components {@code v} and {@code w}. The returned set is the unmodifiable set held by the
+     * adjacency index.
      * 
      * @param v the vertex
      * @throws IllegalArgumentException if {@code v} is not contained in the set of all vertices
@@ -308,11 +404,7 @@ public final class UGraph<A> implements Graph<A> {
             throw new IllegalArgumentException("Vertex must be contained in the set of vertices");
         }
 
-        return edges.stream()
-            .filter(e -> e.u().equals(v) || e.v().equals(v))
-            .flatMap(e -> Stream.of(e.u(), e.v()))
-            .filter(w -> !w.equals(v))
-            .collect(Collectors.toSet());
+        return adjacency.get(v);
     }
 
     /**
@@ -359,7 +451,7 @@ public final class UGraph<A> implements Graph<A> {
      */
     public List<Long> degreeSequence() {
         return vertices.stream()
-            .map(this::degree)
+            .map(v -> (long) adjacency.get(v).size())
             .sorted(Collections.reverseOrder())
             .toList();
     }
@@ -379,7 +471,13 @@ public final class UGraph<A> implements Graph<A> {
             throw new IllegalArgumentException("Edge to remove must be contained in the set of edges");
         }
         
-        return new UGraph<>(vertices, Sets.difference(edges, Set.of(edge)));
+        return new UGraph<>(
+            vertices,
+            edges.without(edge),
+            adjacency
+                .with(edge.u(), adjacent(edge.u()).without(edge.v()))
+                .with(edge.v(), adjacent(edge.v()).without(edge.u()))
+        );
     }
 
     /**
@@ -398,7 +496,20 @@ public final class UGraph<A> implements Graph<A> {
             throw new IllegalArgumentException("Edge must be between vertices contained in the set of vertices");
         }
 
-        return new UGraph<>(vertices, Sets.union(edges, Set.of(edge)));
+        if (edges.contains(edge)) {
+            return this;
+        }
+
+        UGraph<A> out = new UGraph<>(
+            vertices,
+            edges.with(edge),
+            adjacency
+                .with(edge.u(), adjacent(edge.u()).with(edge.v()))
+                .with(edge.v(), adjacent(edge.v()).with(edge.u()))
+        );
+        out.connectivity = Connectivity.derive(connectivity, c -> c.union(edge.u(), edge.v()));
+
+        return out;
     }
 
     /**
@@ -407,7 +518,8 @@ public final class UGraph<A> implements Graph<A> {
      * <p>Returns a new {@code UGraph} with the set of vertices as {@code vertices - v}, thus
      * all vertices in {@code vertices} except for the specified vertex {@code v} to remove
      * and the set of edges as all the edges in {@code edges} except for those that have the
-     * vertex {@code v} as one of its ends.
+     * vertex {@code v} as one of its ends. Only the edges at {@code v} are visited, so this
+     * costs O(deg(v) log n).
      * @param v the vertex to remove in the new graph
      * @throws IllegalArgumentException if the specified vertex {@code v} is not contained in
      * the set {@code vertices}
@@ -418,11 +530,17 @@ public final class UGraph<A> implements Graph<A> {
             throw new IllegalArgumentException("Vertex to remove must be contained in the set of vertices");
         }
 
-        Set<UEdge<A>> updatedEdges = edges.stream()
-            .filter(e -> !e.u().equals(v) && !e.v().equals(v))
-            .collect(Collectors.toSet());
+        PersistentSet.Builder<UEdge<A>> updatedEdges = edges.toBuilder();
+        PersistentMap.Builder<A, PersistentSet<A>> updatedAdjacency = adjacency.toBuilder();
+
+        for (A w : adjacent(v)) {
+            updatedEdges.remove(new UEdge<>(v, w));
+            updatedAdjacency.put(w, adjacent(w).without(v));
+        }
+
+        updatedAdjacency.remove(v);
         
-        return new UGraph<>(Sets.difference(vertices, Set.of(v)), updatedEdges);
+        return new UGraph<>(vertices.without(v), updatedEdges.build(), updatedAdjacency.build());
     }
 
     /**
@@ -451,16 +569,368 @@ public final class UGraph<A> implements Graph<A> {
                 "Vertex to add must not already be contained in the set of vertices");
         }
 
-        return new UGraph<>(
-            Sets.union(vertices, Set.of(w)),
-            Sets.union(
-                Sets.difference(edges, Set.of(edge)),
-                Set.of(
-                    new UEdge<A>(edge.u(), w),
-                    new UEdge<A>(w, edge.v())
-                )
-            )
+        UGraph<A> out = new UGraph<>(
+            vertices.with(w),
+            edges
+                .without(edge)
+                .with(new UEdge<A>(edge.u(), w))
+                .with(new UEdge<A>(w, edge.v())),
+            adjacency
+                .with(edge.u(), adjacent(edge.u()).without(edge.v()).with(w))
+                .with(edge.v(), adjacent(edge.v()).without(edge.u()).with(w))
+                .with(w, PersistentSet.<A>empty().with(edge.u()).with(edge.v()))
         );
+        out.connectivity = Connectivity.derive(connectivity, c -> !c.indexed(w), c -> c.join(w, edge.u()));
+
+        return out;
+    }
+
+    /**
+     * Returns {@code true} if there is a path between {@code u} and {@code v} in the graph.
+     * 
+     * <p>Answered by a union-find over the vertices with path compression and union by rank. It is
+     * built in O(|V| + |E|) on the first connectivity query, and carried along to the graphs
+     * produced by {@link #addEdge(UEdge)} and {@link #subdivideEdge(Object, UEdge)}, which update it
+     * in near O(1). Graphs produced by removing edges or vertices build their own on first query.
+     * @param u the first vertex
+     * @param v the second vertex
+     * @throws IllegalArgumentException if {@code u} or {@code v} is not contained in the set of vertices
+     * @return {@code true} if {@code u} and {@code v} lie in the same connected component
+     */
+    public boolean connected(A u, A v) {
+        if (!(vertices.contains(u) && vertices.contains(v))) {
+            throw new IllegalArgumentException("Vertex must be contained in the set of vertices");
+        }
+
+        return withConnectivity(c -> c.connected(u, v));
+    }
+
+    /**
+     * Returns the number of connected components of the graph.
+     * @see #connected(Object, Object)
+     * @return the number of connected components
+     */
+    public int componentsCount() {
+        return withConnectivity(Connectivity::count);
+    }
+
+    /**
+     * Runs {@code query} on the connectivity of this graph, rebuilding it if it was never computed
+     * or if a later version has merged components that are separate in this graph.
+     */
+    private <R> R withConnectivity(Function<Connectivity<A>, R> query) {
+        while (true) {
+            Connectivity.Version<A> current = connectivity;
+
+            if (current == null) {
+                current = new Connectivity.Version<>(Connectivity.of(vertices, edges), 0);
+                connectivity = current;
+            }
+
+            synchronized (current.shared()) {
+                if (current.isCurrent()) {
+                    return query.apply(current.shared());
+                }
+            }
+
+            connectivity = null;
+        }
+    }
+
+    /**
+     * A union-find over the vertices of a graph, shared between successive versions of the graph
+     * produced by edits that only merge components.
+     * 
+     * <p>Every merge of two existing components increments {@code stamp}. A graph holds the stamp
+     * current when it was produced, so a graph whose stamp is behind sees that the shared structure
+     * has moved past it and rebuilds its own. Adding a new vertex to an existing component does not
+     * change the partition of the existing vertices, so it does not increment {@code stamp}.
+     */
+    private static final class Connectivity<A> {
+        private final Map<A, Integer> indices = new HashMap<>();
+        private final UnionFind unionFind = new UnionFind(0);
+        private int stamp = 0;
+
+        /**
+         * A graph's view of a shared {@code Connectivity} at a given stamp.
+         */
+        private record Version<A>(Connectivity<A> shared, int stamp) {
+            boolean isCurrent() {
+                return shared.stamp == stamp;
+            }
+        }
+
+        private static <A> Connectivity<A> of(Set<A> vertices, Set<UEdge<A>> edges) {
+            Connectivity<A> c = new Connectivity<>();
+
+            for (A v : vertices) {
+                c.index(v);
+            }
+
+            for (UEdge<A> e : edges) {
+                c.unionFind.union(c.index(e.u()), c.index(e.v()));
+            }
+
+            return c;
+        }
+
+        /**
+         * Applies {@code update} to the connectivity of a parent graph on behalf of a child graph and
+         * returns the child's version, or {@code null} if the parent's version is already stale.
+         * The update returns {@code true} if it merged two existing components.
+         */
+        private static <A> Version<A> derive(Version<A> parent, Predicate<Connectivity<A>> update) {
+            return derive(parent, c -> true, update);
+        }
+
+        /**
+         * Applies {@code update} as above, but only if {@code applicable} holds for the shared
+         * structure. Otherwise the shared structure is left untouched, along with the versions of
+         * the parent and of any sibling, and {@code null} is returned so that the child rebuilds its
+         * own connectivity on its first query.
+         */
+        private static <A> Version<A> derive(
+            Version<A> parent, Predicate<Connectivity<A>> applicable, Predicate<Connectivity<A>> update
+        ) {
+            if (parent == null) {
+                return null;
+            }
+
+            Connectivity<A> shared = parent.shared();
+
+            synchronized (shared) {
+                if (!parent.isCurrent() || !applicable.test(shared)) {
+                    return null;
+                }
+
+                if (update.test(shared)) {
+                    shared.stamp++;
+                }
+
+                return new Version<>(shared, shared.stamp);
+            }
+        }
+
+        private int index(A v) {
+            Integer i = indices.get(v);
+
+            if (i == null) {
+                i = unionFind.add();
+                indices.put(v, i);
+            }
+
+            return i;
+        }
+
+        private boolean union(A u, A v) {
+            return unionFind.union(index(u), index(v));
+        }
+
+        private boolean indexed(A v) {
+            return indices.containsKey(v);
+        }
+
+        /**
+         * Adds the vertex {@code w}, which must not be indexed yet, to the component of {@code u}.
+         * A vertex already indexed by a sibling version of the graph would instead merge two existing
+         * components of the shared structure under every other version, see {@link #indexed}.
+         * @return {@code false}, as no two existing components are merged
+         */
+        private boolean join(A w, A u) {
+            unionFind.union(index(w), index(u));
+
+            return false;
+        }
+
+        private boolean connected(A u, A v) {
+            return unionFind.connected(index(u), index(v));
+        }
+
+        private int count() {
+            return unionFind.count();
+        }
+    }
+
+    /**
+     * Returns a new {@code UGraph} with a batch of edits applied to this graph.
+     * 
+     * <p>The {@code edits} receive an {@link Editor} which accumulates vertex and edge additions and
+     * removals in mutable working sets seeded from this graph. Each edit is validated against the
+     * working state in the same way as the single-edit methods, and exactly one new {@code UGraph}
+     * is produced once {@code edits} returns, in O(k log n) for a batch of {@code k} edits. The
+     * editor must not be used after {@code edits} returns.
+     * 
+     * <p>For example, {@code g.edit(e -> e.removeVertex(u).addEdge(new UEdge<>(v, w)))} returns the
+     * same graph as {@code g.removeVertex(u).addEdge(new UEdge<>(v, w))}.
+     * @param edits the batch of edits to apply
+     * @throws NullPointerException if {@code edits} is null
+     * @throws IllegalArgumentException if any edit is invalid, in which case no graph is produced
+     * @return the new {@code UGraph} with all edits applied
+     */
+    public UGraph<A> edit(Consumer<Editor<A>> edits) {
+        Objects.requireNonNull(edits, "Edits must not be null");
+
+        Editor<A> editor = new Editor<>(this);
+        edits.accept(editor);
+
+        return editor.build();
+    }
+
+    /**
+     * A transient view of a {@code UGraph} under a batch of edits, obtained through
+     * {@link UGraph#edit(Consumer)}. The working sets are builders over the persistent sets of the
+     * original graph, so the original graph is never modified.
+     * 
+     * @param <A> the vertex type
+     */
+    public static final class Editor<A> {
+        private final PersistentSet.Builder<A> vertices;
+        private final PersistentSet.Builder<UEdge<A>> edges;
+        private final PersistentMap.Builder<A, PersistentSet<A>> adjacency;
+
+        /**
+         * Neighbourhoods changed during the batch, kept as builders until the batch is complete.
+         */
+        private final Map<A, PersistentSet.Builder<A>> changedNeighbours = new HashMap<>();
+
+        private boolean built = false;
+
+        private Editor(UGraph<A> g) {
+            this.vertices = g.vertices.toBuilder();
+            this.edges = g.edges.toBuilder();
+            this.adjacency = g.adjacency.toBuilder();
+        }
+
+        private void requireOpen() {
+            if (built) {
+                throw new IllegalStateException("Editor must not be used after the edits are applied");
+            }
+        }
+
+        private PersistentSet.Builder<A> neighbours(A v) {
+            return changedNeighbours.computeIfAbsent(v, k -> {
+                PersistentSet<A> current = adjacency.get(k);
+
+                return (current == null ? PersistentSet.<A>empty() : current).toBuilder();
+            });
+        }
+
+        /**
+         * Returns {@code true} if the working set of vertices contains {@code v}.
+         * @param v the vertex
+         * @return {@code true} if {@code v} is a vertex of the graph being edited
+         */
+        public boolean hasVertex(A v) {
+            requireOpen();
+            return vertices.contains(v);
+        }
+
+        /**
+         * Returns {@code true} if the working set of edges contains {@code edge}.
+         * @param edge the edge
+         * @return {@code true} if {@code edge} is an edge of the graph being edited
+         */
+        public boolean hasEdge(UEdge<A> edge) {
+            requireOpen();
+            return edges.contains(edge);
+        }
+
+        /**
+         * Adds the isolated vertex {@code v}.
+         * @param v the vertex to add
+         * @throws IllegalArgumentException if {@code v} is already contained in the set of vertices
+         * @return this editor
+         */
+        public Editor<A> addVertex(A v) {
+            requireOpen();
+
+            if (vertices.contains(v)) {
+                throw new IllegalArgumentException(
+                    "Vertex to add must not already be contained in the set of vertices");
+            }
+
+            vertices.add(v);
+            changedNeighbours.put(v, PersistentSet.<A>empty().toBuilder());
+            return this;
+        }
+
+        /**
+         * Removes the vertex {@code v} together with every edge that has {@code v} as one of its ends.
+         * @param v the vertex to remove
+         * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+         * @return this editor
+         * @see UGraph#removeVertex(Object)
+         */
+        public Editor<A> removeVertex(A v) {
+            requireOpen();
+
+            if (!vertices.contains(v)) {
+                throw new IllegalArgumentException("Vertex to remove must be contained in the set of vertices");
+            }
+
+            for (A w : neighbours(v).build()) {
+                edges.remove(new UEdge<>(v, w));
+                neighbours(w).remove(v);
+            }
+
+            changedNeighbours.remove(v);
+            adjacency.remove(v);
+            vertices.remove(v);
+            return this;
+        }
+
+        /**
+         * Adds {@code edge}. Adding an edge that is already contained in the set of edges has no effect.
+         * @param edge the edge to add
+         * @throws IllegalArgumentException if {@code edge} is between vertices that are not contained
+         * in the set of vertices
+         * @return this editor
+         * @see UGraph#addEdge(UEdge)
+         */
+        public Editor<A> addEdge(UEdge<A> edge) {
+            requireOpen();
+
+            if (!(vertices.contains(edge.u()) && vertices.contains(edge.v()))) {
+                throw new IllegalArgumentException("Edge must be between vertices contained in the set of vertices");
+            }
+
+            if (edges.add(edge)) {
+                neighbours(edge.u()).add(edge.v());
+                neighbours(edge.v()).add(edge.u());
+            }
+
+            return this;
+        }
+
+        /**
+         * Removes {@code edge}.
+         * @param edge the edge to remove
+         * @throws IllegalArgumentException if {@code edge} is not contained in the set of edges
+         * @return this editor
+         * @see UGraph#removeEdge(UEdge)
+         */
+        public Editor<A> removeEdge(UEdge<A> edge) {
+            requireOpen();
+
+            if (!edges.remove(edge)) {
+                throw new IllegalArgumentException("Edge to remove must be contained in the set of edges");
+            }
+
+            neighbours(edge.u()).remove(edge.v());
+            neighbours(edge.v()).remove(edge.u());
+            return this;
+        }
+
+        private UGraph<A> build() {
+            requireOpen();
+            built = true;
+
+            for (Map.Entry<A, PersistentSet.Builder<A>> e : changedNeighbours.entrySet()) {
+                adjacency.put(e.getKey(), e.getValue().build());
+            }
+
+            return new UGraph<>(vertices.build(), edges.build(), adjacency.build());
+        }
     }
 
     /**
@@ -0,0 +1,437 @@
+package com.speedbirdkk.discretetoolkit.model.graph;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToDoubleBiFunction;
+
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
+
+/**
+ * A compact representation of a simple undirected graph with a weight on every edge. Vertices
+ * are identified by a dense index {@code 0..n-1} exactly as in {@link IntUGraph}.
+ *
+ * <p>This class models the weighted graph in the following way:
+ * <ul>
+ *  <li>{@code labels} is an {@link Indexer}, the interning table between vertex indices and
+ *      vertices of type {@code A}, which may be shared with other structures on the same vertices.
+ *  <li>The edges are stored in compressed sparse row form. The neighbours of the vertex with
+ *      index {@code i} are the indices {@code targets[offsets[i]]..targets[offsets[i + 1] - 1]},
+ *      sorted in increasing order, and {@code weights[p]} is the weight of the edge to
+ *      {@code targets[p]}. Every edge {u, v} therefore appears twice with the same weight.
+ * </ul>
+ *
+ * <p>Weights are finite and non-negative, so the graph can be used directly for shortest path
+ * queries. The rows are sorted with two counting passes in O(|V| + |E|).
+ *
+ * @param <A> the type of vertices in the weighted graph
+ *
+ * @author speedbird-kk
+ * @see IntUGraph
+ * @since 2025
+ * @version 1.0
+ */
+public final class WUGraph<A> implements Graph<A> {
+    /**
+     * Interning table between vertex indices and vertices.
+     */
+    private final Indexer<A> labels;
+
+    /**
+     * Row offsets into {@code targets} and {@code weights}, of length {@code n + 1}.
+     */
+    private final int[] offsets;
+
+    /**
+     * Neighbour indices of every vertex, each row sorted in increasing order.
+     */
+    private final int[] targets;
+
+    /**
+     * Weight of the edge to each entry of {@code targets}.
+     */
+    private final double[] weights;
+
+    private WUGraph(Indexer<A> labels, int[] offsets, int[] targets, double[] weights) {
+        this.labels = labels;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Constructs a new weighted graph from a list of vertices and the endpoints and weights of its
+     * edges given by index.
+     *
+     * <p>The vertex {@code labels.get(i)} receives the index {@code i}, and for each {@code k} the
+     * pair {@code us[k]}, {@code vs[k]} is an edge of weight {@code ws[k]} between the vertices with
+     * those indices.
+     * @param <A> the vertex type
+     * @param labels the list of vertices, where the position of a vertex is its index
+     * @param us the first endpoint of each edge
+     * @param vs the second endpoint of each edge
+     * @param ws the weight of each edge
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code labels} contains duplicate elements, if the arrays
+     * differ in length, if an index is out of range, if an edge is a self-loop, if an edge is given
+     * more than once or if a weight is negative or not finite
+     * @return the weighted graph with the given vertices and edges
+     */
+    public static <A> WUGraph<A> fromIndices(List<A> labels, int[] us, int[] vs, double[] ws) {
+        Objects.requireNonNull(labels, "List of vertices must not be null");
+        Objects.requireNonNull(us, "Array of endpoints must not be null");
+        Objects.requireNonNull(vs, "Array of endpoints must not be null");
+        Objects.requireNonNull(ws, "Array of weights must not be null");
+
+        if (us.length != vs.length || us.length != ws.length) {
+            throw new IllegalArgumentException("Arrays of endpoints and weights must have the same length");
+        }
+
+        Indexer<A> indexer = Indexer.of(labels);
+        int n = indexer.size();
+
+        for (int k = 0; k < us.length; k++) {
+            if (us[k] < 0 || us[k] >= n || vs[k] < 0 || vs[k] >= n) {
+                throw new IllegalArgumentException("Edge endpoints must be valid vertex indices");
+            }
+
+            if (us[k] == vs[k]) {
+                throw new IllegalArgumentException("Self-loops not allowed for simple graphs");
+            }
+
+            if (!(ws[k] >= 0 && ws[k] < Double.POSITIVE_INFINITY)) {
+                throw new IllegalArgumentException("Edge weights must be finite and non-negative");
+            }
+        }
+
+        int m = us.length;
+
+        // First pass: order the incidences by target, so that the stable second pass by source
+        // leaves every row sorted.
+        int[] byTargetSources = new int[2 * m];
+        int[] byTargetTargets = new int[2 * m];
+        double[] byTargetWeights = new double[2 * m];
+        int[] next = new int[n + 1];
+
+        for (int k = 0; k < m; k++) {
+            next[us[k] + 1]++;
+            next[vs[k] + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            next[i + 1] += next[i];
+        }
+
+        for (int k = 0; k < m; k++) {
+            int p = next[vs[k]]++;
+            byTargetSources[p] = us[k];
+            byTargetTargets[p] = vs[k];
+            byTargetWeights[p] = ws[k];
+
+            int q = next[us[k]]++;
+            byTargetSources[q] = vs[k];
+            byTargetTargets[q] = us[k];
+            byTargetWeights[q] = ws[k];
+        }
+
+        int[] offsets = new int[n + 1];
+
+        for (int p = 0; p < 2 * m; p++) {
+            offsets[byTargetSources[p] + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[2 * m];
+        double[] weights = new double[2 * m];
+        int[] fill = Arrays.copyOf(offsets, n);
+
+        for (int p = 0; p < 2 * m; p++) {
+            int q = fill[byTargetSources[p]]++;
+            targets[q] = byTargetTargets[p];
+            weights[q] = byTargetWeights[p];
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int p = offsets[i] + 1; p < offsets[i + 1]; p++) {
+                if (targets[p] == targets[p - 1]) {
+                    throw new IllegalArgumentException("Edges must not be given more than once");
+                }
+            }
+        }
+
+        return new WUGraph<>(indexer, offsets, targets, weights);
+    }
+
+    /**
+     * Constructs the weighted graph with the vertices and edges of {@code g}, weighting each edge
+     * {u, v} with {@code weight.applyAsDouble(u, v)}. The vertices keep their indices from {@code g}.
+     * @param <A> the vertex type
+     * @param g the compact graph
+     * @param weight the weight of the edge between two vertices
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if a weight is negative or not finite
+     * @return the weighted graph
+     */
+    public static <A> WUGraph<A> fromIntUGraph(IntUGraph<A> g, ToDoubleBiFunction<A, A> weight) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+        Objects.requireNonNull(weight, "Weight function must not be null");
+
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        double[] weights = new double[targets.length];
+
+        for (int i = 0; i < g.verticesCount(); i++) {
+            for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                int j = targets[p];
+
+                if (j < i) {
+                    weights[p] = weights[find(offsets, targets, j, i)];
+                    continue;
+                }
+
+                double w = weight.applyAsDouble(g.label(i), g.label(j));
+
+                if (!(w >= 0 && w < Double.POSITIVE_INFINITY)) {
+                    throw new IllegalArgumentException("Edge weights must be finite and non-negative");
+                }
+
+                weights[p] = w;
+            }
+        }
+
+        return new WUGraph<>(g.indexer(), offsets.clone(), targets.clone(), weights);
+    }
+
+    /**
+     * Returns the position of {@code j} in the sorted row of {@code i}, or a negative value if absent.
+     */
+    private static int find(int[] offsets, int[] targets, int i, int j) {
+        return Arrays.binarySearch(targets, offsets[i], offsets[i + 1], j);
+    }
+
+    /**
+     * Returns the index of vertex {@code v}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the index of {@code v}
+     */
+    public int indexOf(A v) {
+        int i = labels.indexOf(v);
+
+        if (i < 0) {
+            throw new IllegalArgumentException("Vertex must be contained in the set of vertices");
+        }
+
+        return i;
+    }
+
+    /**
+     * Returns the vertex with index {@code i}.
+     * @param i the vertex index
+     * @throws IndexOutOfBoundsException if {@code i} is not between 0 and {@code verticesCount() - 1}
+     * @return the vertex with index {@code i}
+     */
+    public A label(int i) {
+        return labels.get(i);
+    }
+
+    /**
+     * Returns the interning table of the graph, where the position of each vertex is its index.
+     * @return the unmodifiable list of vertices ordered by index
+     */
+    public List<A> labels() {
+        return labels.elements();
+    }
+
+    /**
+     * Returns the indexer of the vertices, to share with other structures on the same vertices.
+     * @return the indexer of the vertices
+     */
+    public Indexer<A> indexer() {
+        return labels;
+    }
+
+    /**
+     * Returns {@code true} if the graph contains an edge between the vertices with indices
+     * {@code i} and {@code j}, found by binary search in the row of {@code i}.
+     * @param i the index of the first vertex
+     * @param j the index of the second vertex
+     * @return {@code true} if the vertices with indices {@code i} and {@code j} are adjacent
+     */
+    public boolean hasEdgeAt(int i, int j) {
+        return find(offsets, targets, i, j) >= 0;
+    }
+
+    /**
+     * Returns the weight of the edge between the vertices with indices {@code i} and {@code j}.
+     * @param i the index of the first vertex
+     * @param j the index of the second vertex
+     * @throws IllegalArgumentException if the vertices are not adjacent
+     * @return the weight of the edge
+     */
+    public double weightAt(int i, int j) {
+        int p = find(offsets, targets, i, j);
+
+        if (p < 0) {
+            throw new IllegalArgumentException("Vertices must be adjacent");
+        }
+
+        return weights[p];
+    }
+
+    /**
+     * Returns the weight of the edge between vertex {@code v} and vertex {@code u}.
+     * @param v the first vertex
+     * @param u the second vertex
+     * @throws IllegalArgumentException if a vertex is not contained in the set of vertices or if the
+     * vertices are not adjacent
+     * @return the weight of the edge
+     */
+    public double weight(A v, A u) {
+        return weightAt(indexOf(v), indexOf(u));
+    }
+
+    /**
+     * Returns the degree of the vertex with index {@code i}.
+     * @param i the vertex index
+     * @return the number of neighbours of the vertex with index {@code i}
+     */
+    public int degreeAt(int i) {
+        return offsets[i + 1] - offsets[i];
+    }
+
+    /**
+     * Returns the row offsets of the compressed sparse row layout.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of row offsets of length {@code verticesCount() + 1}
+     * @see IntUGraph#offsets()
+     */
+    public int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the neighbour indices of the compressed sparse row layout, sorted in increasing
+     * order within each row.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of neighbour indices of length {@code incidencesCount()}
+     */
+    public int[] targets() {
+        return targets;
+    }
+
+    /**
+     * Returns the edge weights of the compressed sparse row layout, aligned with {@link #targets()}.
+     *
+     * <p><strong>Note:</strong> The internal array is returned without copying and must not be modified.
+     * @return the array of edge weights of length {@code incidencesCount()}
+     */
+    public double[] weights() {
+        return weights;
+    }
+
+    /**
+     * Returns the number of incidences in the graph, twice the number of edges.
+     * @return the number of incidences in the graph
+     */
+    public int incidencesCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the number of edges in the graph.
+     * @return the number of edges in the graph
+     */
+    public int edgesCount() {
+        return targets.length / 2;
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     * @return the number of vertices in the graph
+     */
+    public int verticesCount() {
+        return labels.size();
+    }
+
+    /**
+     * Returns the set of vertices in the graph.
+     * @return the set of vertices
+     */
+    public Set<A> vertices() {
+        return labels.asSet();
+    }
+
+    /**
+     * Returns the map from each edge to its weight. The map is built on every call.
+     * @return the map of weighted edges
+     */
+    public Map<UEdge<A>, Double> edges() {
+        Map<UEdge<A>, Double> out = new LinkedHashMap<>();
+
+        for (int i = 0; i < verticesCount(); i++) {
+            for (int p = offsets[i]; p < offsets[i + 1] && targets[p] < i; p++) {
+                out.put(new UEdge<>(labels.get(targets[p]), labels.get(i)), weights[p]);
+            }
+        }
+
+        return Collections.unmodifiableMap(out);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WUGraph<?>)) return false;
+
+        WUGraph<?> other = (WUGraph<?>) o;
+
+        if (this.verticesCount() != other.verticesCount()
+            || this.edgesCount() != other.edgesCount()
+            || !this.vertices().equals(other.vertices())) {
+            return false;
+        }
+
+        for (int i = 0; i < verticesCount(); i++) {
+            int otherI = other.labels.indexOf(labels.get(i));
+
+            for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                int q = find(other.offsets, other.targets, otherI, other.labels.indexOf(labels.get(targets[p])));
+
+                if (q < 0 || Double.compare(weights[p], other.weights[q]) != 0) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int edgesHash = 0;
+
+        for (int i = 0; i < verticesCount(); i++) {
+            for (int p = offsets[i]; p < offsets[i + 1] && targets[p] < i; p++) {
+                edgesHash += (labels.get(i).hashCode() ^ labels.get(targets[p]).hashCode())
+                    + 31 * Double.hashCode(weights[p]);
+            }
+        }
+
+        return Objects.hash(vertices(), edgesHash);
+    }
+
+    @Override
+    public String toString() {
+        return "(Vertices = " + vertices() + "\n"
+            + "Edges = " + edges() + ")";
+    }
+}
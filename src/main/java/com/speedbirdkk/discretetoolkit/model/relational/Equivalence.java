@@ -0,0 +1,336 @@
+package com.speedbirdkk.discretetoolkit.model.relational;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
+import com.speedbirdkk.discretetoolkit.model.collections.UnionFind;
+
+public final class Equivalence<A> implements Relational<A, A> {
+    private final Set<A> domain;
+    private final Indexer<A> elements;
+    private final Set<Pair<A, A>> relationSet;
+
+    /**
+     * Class id of each element by index, numbering classes 0..k-1 in order of their first element.
+     */
+    private final int[] classIds;
+
+    /**
+     * Indices of the elements grouped by class: class c is members[offsets[c]..offsets[c + 1] - 1].
+     */
+    private final int[] offsets;
+    private final int[] members;
+
+    /**
+     * Construct the equivalence closure of the given pairs over the domain, the smallest equivalence
+     * relation on the domain containing them.
+     * The pairs are merged in a union-find in near-linear time and the closed relation set, which
+     * can hold a quadratic number of pairs, is never built.
+     * Throws IllegalArgumentException if a pair has an element not contained in the domain.
+     */
+    public Equivalence(Set<A> domain, Set<Pair<A, A>> pairs) {
+        this.domain = Set.copyOf(domain);
+        this.elements = Indexer.of(this.domain);
+
+        int n = elements.size();
+        UnionFind uf = new UnionFind(n);
+
+        for (Pair<A, A> pair : pairs) {
+            int i = elements.indexOf(pair.a());
+            int j = elements.indexOf(pair.b());
+
+            if (i < 0 || j < 0) {
+                throw new IllegalArgumentException("Pairs must be contained in the domain");
+            }
+
+            uf.union(i, j);
+        }
+
+        // Flatten the forest into class ids, so that queries neither walk nor mutate it.
+        int[] idOfRoot = new int[n];
+        int[] sizes = new int[uf.count() + 1];
+        int k = 0;
+
+        this.classIds = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            int root = uf.find(i);
+
+            if (idOfRoot[root] == 0) {
+                idOfRoot[root] = ++k;
+            }
+
+            classIds[i] = idOfRoot[root] - 1;
+            sizes[classIds[i] + 1]++;
+        }
+
+        // Group elements by class with a counting sort.
+        for (int c = 0; c < k; c++) {
+            sizes[c + 1] += sizes[c];
+        }
+
+        this.offsets = sizes;
+        this.members = new int[n];
+
+        int[] next = offsets.clone();
+
+        for (int i = 0; i < n; i++) {
+            members[next[classIds[i]]++] = i;
+        }
+
+        this.relationSet = new RelationSetView();
+    }
+
+    /**
+     * Construct the equivalence closure of a relation, over the union of its domain and codomain.
+     */
+    public Equivalence(Relational<A, A> relational) {
+        this(union(relational.domain(), relational.codomain()), relational.relationSet());
+    }
+
+    private static <A> Set<A> union(Set<A> a, Set<A> b) {
+        Set<A> out = new HashSet<>(a);
+        out.addAll(b);
+
+        return out;
+    }
+
+    public static <A> Equivalence<A> closureOf(Relational<A, A> relational) {
+        return new Equivalence<>(relational);
+    }
+
+    public static <A> Equivalence<A> closureOf(Set<A> domain, Set<Pair<A, A>> pairs) {
+        return new Equivalence<>(domain, pairs);
+    }
+
+    /**
+     * Returns the equivalence whose classes are the given blocks.
+     * Throws IllegalArgumentException if two blocks share an element.
+     */
+    public static <A> Equivalence<A> fromClasses(Collection<? extends Set<A>> classes) {
+        Set<A> domain = new HashSet<>();
+        Set<Pair<A, A>> pairs = new HashSet<>();
+
+        for (Set<A> block : classes) {
+            Iterator<A> it = block.iterator();
+
+            if (!it.hasNext()) {
+                continue;
+            }
+
+            A first = it.next();
+
+            for (A x : block) {
+                if (!domain.add(x)) {
+                    throw new IllegalArgumentException("Classes must be disjoint");
+                }
+
+                pairs.add(new Pair<>(first, x));
+            }
+        }
+
+        return new Equivalence<>(domain, pairs);
+    }
+
+    public Set<A> domain() {
+        return domain;
+    }
+
+    public Set<A> codomain() {
+        return domain;
+    }
+
+    public Set<Pair<A, A>> relationSet() {
+        return relationSet;
+    }
+
+    /**
+     * Returns the id of the class of a, between 0 and the number of classes.
+     */
+    public int classId(A a) {
+        return classIds[indexOf(a)];
+    }
+
+    /**
+     * Returns {@code true} if a and b are in the same class, in constant time.
+     */
+    public boolean sameClass(A a, A b) {
+        return classIds[indexOf(a)] == classIds[indexOf(b)];
+    }
+
+    /**
+     * Returns the class of a as a read-only view.
+     */
+    public Set<A> classOf(A a) {
+        return new ClassView(classId(a));
+    }
+
+    /**
+     * Returns the class with the given id as a read-only view.
+     */
+    public Set<A> classAt(int id) {
+        Objects.checkIndex(id, classesCount());
+
+        return new ClassView(id);
+    }
+
+    /**
+     * Returns the classes ordered by id.
+     */
+    public List<Set<A>> classes() {
+        return IntStream.range(0, classesCount())
+            .mapToObj(id -> (Set<A>) new ClassView(id))
+            .toList();
+    }
+
+    /**
+     * Returns the quotient set, the set of classes.
+     */
+    public Set<Set<A>> quotient() {
+        return Set.copyOf(classes());
+    }
+
+    /**
+     * Returns the mapping of every element to the id of its class.
+     */
+    public Mapping<A, Integer> classMapping() {
+        return new Mapping<>(domain, this::classId);
+    }
+
+    public int classesCount() {
+        return offsets.length - 1;
+    }
+
+    private int indexOf(A a) {
+        int i = elements.indexOf(a);
+
+        if (i < 0) {
+            throw new IllegalArgumentException("Element must be contained in the domain");
+        }
+
+        return i;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Equivalence<?>)) return false;
+
+        Equivalence<?> other = (Equivalence<?>) o;
+
+        return this.domain.equals(other.domain)
+            && this.quotient().equals(other.quotient());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(domain, quotient());
+    }
+
+    @Override
+    public String toString() {
+        return "Equivalence(domain = " + domain
+            + ", classes = " + classes()
+            + ")";
+    }
+
+    private final class ClassView extends AbstractSet<A> {
+        private final int id;
+
+        private ClassView(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            int i = elements.indexOf(o);
+
+            return i >= 0 && classIds[i] == id;
+        }
+
+        @Override
+        public int size() {
+            return offsets[id + 1] - offsets[id];
+        }
+
+        @Override
+        public Iterator<A> iterator() {
+            return IntStream.range(offsets[id], offsets[id + 1])
+                .mapToObj(s -> elements.get(members[s]))
+                .iterator();
+        }
+    }
+
+    /**
+     * The pairs of elements in the same class as a read-only view, answering {@code contains} from
+     * the class ids and enumerating pairs class by class on demand.
+     */
+    private final class RelationSetView extends AbstractSet<Pair<A, A>> {
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Pair<?, ?> pair)) {
+                return false;
+            }
+
+            int i = elements.indexOf(pair.a());
+            int j = elements.indexOf(pair.b());
+
+            return i >= 0 && j >= 0 && classIds[i] == classIds[j];
+        }
+
+        @Override
+        public int size() {
+            long size = 0;
+
+            for (int c = 0; c < classesCount(); c++) {
+                long s = offsets[c + 1] - offsets[c];
+                size += s * s;
+            }
+
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Iterator<Pair<A, A>> iterator() {
+            return new Iterator<>() {
+                // Positions in members of the current pair, both within class c.
+                private int c = 0;
+                private int s = 0;
+                private int t = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return s < members.length;
+                }
+
+                @Override
+                public Pair<A, A> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    Pair<A, A> out = new Pair<>(elements.get(members[s]), elements.get(members[t]));
+
+                    if (++t == offsets[c + 1]) {
+                        if (++s == offsets[c + 1]) {
+                            c++;
+                        }
+
+                        t = offsets[c];
+                    }
+
+                    return out;
+                }
+            };
+        }
+    }
+}
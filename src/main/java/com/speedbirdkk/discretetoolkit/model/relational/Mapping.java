@@ -1,6 +1,8 @@
 package com.speedbirdkk.discretetoolkit.model.relational;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -67,12 +69,20 @@ public final class Mapping<A, B> implements Relational<A, B> {
         this.codomain = relation.codomain();
         this.relationSet = relation.relationSet();
         
-        this.function = x -> 
-            relation.relationSet().stream()
-                .filter(pair -> pair.a().equals(x))
-                .findFirst()
-                .map(Pair::b)
-                .orElseThrow();
+        // Look images up in a map instead of scanning the relation set on every application.
+        Map<A, B> images = new HashMap<>();
+
+        for (Pair<A, B> pair : relationSet) {
+            images.put(pair.a(), pair.b());
+        }
+
+        this.function = x -> {
+            if (!images.containsKey(x)) {
+                throw new NoSuchElementException("Element must be contained in the domain");
+            }
+
+            return images.get(x);
+        };
     }
 
     /**
@@ -1,26 +1,56 @@
 package com.speedbirdkk.discretetoolkit.model.relational;
 
-import java.util.ArrayList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.speedbirdkk.discretetoolkit.exceptions.InvalidComparatorException;
+import com.speedbirdkk.discretetoolkit.exceptions.NotAnOrderingException;
 import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
 import com.speedbirdkk.discretetoolkit.utils.Relations;
 import com.speedbirdkk.discretetoolkit.utils.Validate;
+import com.speedbirdkk.discretetoolkit.utils.graph.DGraphs;
+import com.speedbirdkk.discretetoolkit.utils.graph.ReachabilityIndex;
 
 public final class Ordering<A> implements Relational<A, A> {
+    // Relation sets with at least this many pairs are validated in parallel.
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 1 << 16;
+
     private Set<A> domain;
     private Set<Pair<A, A>> coveringRelation;
     private Set<Pair<A, A>> relationSet;
     private Optional<Comparator<A>> comparator;
 
+    /**
+     * Elements in increasing order, the index of each element being its rank, if the ordering is total.
+     */
+    private Indexer<A> ranks;
+
+    /**
+     * Reachability index of the Hasse diagram, and of its reverse once a down-set has been asked
+     * for, if the ordering is given by its Hasse diagram.
+     */
+    private ReachabilityIndex<A> upIndex;
+    private volatile ReachabilityIndex<A> downIndex;
+
+    /**
+     * Construct an ordering from a Hasse diagram, mapping each element to the elements it is below.
+     * Arcs implied by longer paths through the diagram are dropped, so the covering relation holds
+     * only true covers.
+     * Throws NotAnOrderingException if the diagram contains a cycle.
+     */
     public Ordering(Map<A, Set<A>> hasse) {
         domain = Set.copyOf(hasse.entrySet()
             .stream()
@@ -35,54 +65,142 @@ public final class Ordering<A> implements Relational<A, A> {
             .collect(Collectors.toSet())
         );
 
-        relationSet = Set.copyOf(
-            Relations.reflexiveClosure(
-                domain, Relations.transitiveClosure(domain, coveringRelation)
-            )
-        );
+        upIndex = ReachabilityIndex.of(domain, coveringRelation);
 
+        if (!DGraphs.isAcyclic(upIndex.graph())) {
+            throw new NotAnOrderingException("Hasse diagram must not contain a cycle");
+        }
+
+        // Drop arcs implied by longer paths, so that only true covers remain.
+        coveringRelation = Set.copyOf(DGraphs.transitiveReduction(upIndex.graph()).arcs());
+
+        relationSet = new RelationSetView();
         comparator = Optional.empty();
     }
 
     public Ordering(Set<A> domain, Comparator<A> comparator) {
+        this(domain, comparator, false);
+    }
+
+    /**
+     * Construct a total ordering of the domain by a comparator, sorting the domain in parallel if
+     * parallelSort is true.
+     * Only the sorted elements and their ranks are stored, in O(n) space after an O(n log n) sort;
+     * the covering and relation sets are views answered from the ranks.
+     * Throws InvalidComparatorException if the comparator does not order the domain linearly, in
+     * particular if it compares two distinct elements as equal.
+     */
+    @SuppressWarnings("unchecked")
+    public Ordering(Set<A> domain, Comparator<A> comparator, boolean parallelSort) {
         this.domain = Set.copyOf(domain);
         this.comparator = Optional.of(comparator);
 
-        List<A> sorted = new ArrayList<>(domain);
-        sorted.sort(comparator);
+        A[] sorted = (A[]) this.domain.toArray();
 
-        if (!Validate.comparator(sorted, comparator)) {
-            throw new InvalidComparatorException("Comparator must be consistent with a linear ordering");
+        if (parallelSort) {
+            Arrays.parallelSort(sorted, comparator);
+        } else {
+            Arrays.sort(sorted, comparator);
         }
 
-        Set<Pair<A, A>> covers = new HashSet<>();
-
-        for (int i = 0; i < sorted.size() - 1; i++) {
-            covers.add(new Pair<>(sorted.get(i), sorted.get(i + 1)));
+        // Strictly increasing, as ties would give equal elements different ranks.
+        for (int i = 0; i + 1 < sorted.length; i++) {
+            if (comparator.compare(sorted[i], sorted[i + 1]) >= 0) {
+                throw new InvalidComparatorException("Comparator must be consistent with a linear ordering");
+            }
         }
 
-        coveringRelation = Set.copyOf(covers);
-
-        relationSet = Relations.reflexiveClosure(
-            this.domain, Relations.transitiveClosure(this.domain, coveringRelation));
+        ranks = Indexer.of(Arrays.asList(sorted));
+        coveringRelation = new CoveringRelationView();
+        relationSet = new RelationSetView();
     }
 
+    /**
+     * Construct an ordering from its relation set.
+     * The domain is inferred to be the set of elements related by some pair.
+     * Throws NotAnOrderingException if the relation set is not reflexive, antisymmetric and transitive.
+     */
     public Ordering(Set<Pair<A, A>> relationSet) {
-        // validate relationSet is an ordering
-        // infer domain
-        // construct coveringRelation
+        this(relationSet.stream()
+            .flatMap(r -> Stream.of(r.a(), r.b()))
+            .collect(Collectors.toSet()), relationSet);
+    }
+
+    /**
+     * Construct an ordering with a defined domain and relation set.
+     * Reflexivity and antisymmetry are checked through the successor-indexed checks in Validate, in
+     * parallel for large relation sets. Only the covering relation is kept, computed as the
+     * transitive reduction of the pairs (a, b) with a != b, and pairs are then answered from its
+     * reachability index. Those pairs are transitive exactly when they have no cycle and their
+     * number equals the number of pairs the index reaches, which avoids walking every path of
+     * length two through the relation set unless it is not transitive.
+     * Throws NotAnOrderingException if the relation set relates an element outside the domain or
+     * is not reflexive, antisymmetric and transitive, naming the first violation found.
+     */
+    public Ordering(Set<A> domain, Set<Pair<A, A>> relationSet) {
+        this.domain = Set.copyOf(domain);
+
+        long strictPairs = 0;
 
-        // make another constructor where domain is specified too
+        for (Pair<A, A> pair : relationSet) {
+            if (!this.domain.contains(pair.a()) || !this.domain.contains(pair.b())) {
+                throw new NotAnOrderingException("Relation set must only relate elements of the domain, but contains " + pair);
+            }
+
+            if (!pair.a().equals(pair.b())) {
+                strictPairs++;
+            }
+        }
+
+        boolean parallel = relationSet.size() >= PARALLEL_VALIDATION_THRESHOLD;
+
+        Validate.reflexivityCounterexample(this.domain, relationSet, parallel).ifPresent(x -> {
+            throw new NotAnOrderingException("Relation set must be reflexive, but does not contain " + new Pair<>(x, x));
+        });
+
+        Validate.antisymmetryCounterexample(relationSet, parallel).ifPresent(pair -> {
+            throw new NotAnOrderingException("Relation set must be antisymmetric, but contains " + pair + " and its inverse");
+        });
+
+        Indexer<A> elements = Indexer.of(this.domain);
+
+        try {
+            coveringRelation = Set.copyOf(Relations.transitiveReduction(elements, relationSet));
+            upIndex = ReachabilityIndex.of(elements, coveringRelation);
+        } catch (IllegalArgumentException e) {
+            // An antisymmetric relation with a cycle is not transitive.
+            upIndex = null;
+        }
+
+        if (upIndex == null || upIndex.pairsCount() != strictPairs) {
+            Pair<A, A> missing = Validate.transitivityCounterexample(relationSet, parallel).orElseThrow();
+            throw new NotAnOrderingException("Relation set must be transitive, but does not contain " + missing);
+        }
+
+        this.relationSet = new RelationSetView();
+        comparator = Optional.empty();
     }
 
     public static <A> Ordering<A> fromHasse(Map<A, Set<A>> hasse) {
         return new Ordering<>(hasse);
     }
 
+    public static <A> Ordering<A> fromRelationSet(Set<Pair<A, A>> relationSet) {
+        return new Ordering<>(relationSet);
+    }
+
+    public static <A> Ordering<A> fromRelationSet(Set<A> domain, Set<Pair<A, A>> relationSet) {
+        return new Ordering<>(domain, relationSet);
+    }
+
     public static <A> Ordering<A> fromComparator(Set<A> domain, Comparator<A> comparator) {
         return new Ordering<>(domain, comparator);
     }
 
+    public static <A> Ordering<A> fromComparator(Set<A> domain, Comparator<A> comparator, boolean parallelSort) {
+        return new Ordering<>(domain, comparator, parallelSort);
+    }
+
     public Set<A> domain() {
         return domain;
     }
@@ -94,4 +212,248 @@ public final class Ordering<A> implements Relational<A, A> {
     public Set<Pair<A, A>> relationSet() {
         return relationSet;
     }
+
+    public Set<Pair<A, A>> coveringRelation() {
+        return coveringRelation;
+    }
+
+    /**
+     * Returns {@code true} if {@code a <= b} in this ordering, from the ranks of a total ordering
+     * or from the reachability index of the Hasse diagram.
+     */
+    public boolean lessOrEqual(A a, A b) {
+        requireElement(a);
+        requireElement(b);
+
+        if (ranks != null) {
+            return ranks.indexOf(a) <= ranks.indexOf(b);
+        }
+
+        return a.equals(b) || upIndex.reaches(a, b);
+    }
+
+    /**
+     * Returns {@code true} if (a, b) is in the covering relation, that is {@code a < b} with no
+     * element strictly between them.
+     */
+    public boolean covers(A a, A b) {
+        requireElement(a);
+        requireElement(b);
+
+        if (ranks != null) {
+            return ranks.indexOf(b) == ranks.indexOf(a) + 1;
+        }
+
+        return coveringRelation.contains(new Pair<>(a, b));
+    }
+
+    /**
+     * Returns the set of elements {@code b} such that {@code a <= b}.
+     */
+    public Set<A> upSet(A a) {
+        requireElement(a);
+
+        if (ranks != null) {
+            return Set.copyOf(ranks.elements().subList(ranks.indexOf(a), ranks.size()));
+        }
+
+        Set<A> out = new HashSet<>(upIndex.reachable(a));
+        out.add(a);
+
+        return Collections.unmodifiableSet(out);
+    }
+
+    /**
+     * Returns the set of elements {@code b} such that {@code b <= a}.
+     */
+    public Set<A> downSet(A a) {
+        requireElement(a);
+
+        if (ranks != null) {
+            return Set.copyOf(ranks.elements().subList(0, ranks.indexOf(a) + 1));
+        }
+
+        ReachabilityIndex<A> index = downIndex;
+
+        if (index == null) {
+            index = ReachabilityIndex.of(upIndex.graph().reversed());
+            downIndex = index;
+        }
+
+        Set<A> out = new HashSet<>(index.reachable(a));
+        out.add(a);
+
+        return Collections.unmodifiableSet(out);
+    }
+
+    /**
+     * Returns {@code true} if this ordering was built from a comparator and is stored as ranks, in
+     * which case it answers the rank queries below. Orderings built from a Hasse diagram or a
+     * relation set are not rank-based, even if they happen to be total.
+     */
+    public boolean isRankBased() {
+        return ranks != null;
+    }
+
+    /**
+     * Returns the number of elements strictly less than a, in O(1).
+     */
+    public int rank(A a) {
+        requireTotal();
+        requireElement(a);
+
+        return ranks.indexOf(a);
+    }
+
+    /**
+     * Returns the element with the given rank, in O(1).
+     */
+    public A elementAt(int rank) {
+        requireTotal();
+        Objects.checkIndex(rank, ranks.size());
+
+        return ranks.get(rank);
+    }
+
+    /**
+     * Returns the greatest element strictly less than a, if any, in O(1).
+     */
+    public Optional<A> predecessor(A a) {
+        int r = rank(a);
+
+        return r > 0 ? Optional.of(ranks.get(r - 1)) : Optional.empty();
+    }
+
+    /**
+     * Returns the least element strictly greater than a, if any, in O(1).
+     */
+    public Optional<A> successor(A a) {
+        int r = rank(a);
+
+        return r + 1 < ranks.size() ? Optional.of(ranks.get(r + 1)) : Optional.empty();
+    }
+
+    /**
+     * Returns the greatest element less than or equal to x, if any, in O(log n).
+     * x need not be contained in the domain, only comparable by the comparator.
+     */
+    public Optional<A> floor(A x) {
+        int r = floorRank(x);
+
+        return r >= 0 ? Optional.of(ranks.get(r)) : Optional.empty();
+    }
+
+    /**
+     * Returns the least element greater than or equal to x, if any, in O(log n).
+     * x need not be contained in the domain, only comparable by the comparator.
+     */
+    public Optional<A> ceiling(A x) {
+        int r = ceilingRank(x);
+
+        return r < ranks.size() ? Optional.of(ranks.get(r)) : Optional.empty();
+    }
+
+    /**
+     * Returns the elements e with from <= e <= to in increasing order, as a read-only view, in
+     * O(log n). from and to need not be contained in the domain.
+     */
+    public List<A> range(A from, A to) {
+        int lo = ceilingRank(from);
+        int hi = floorRank(to) + 1;
+
+        return lo < hi ? ranks.elements().subList(lo, hi) : List.of();
+    }
+
+    private int floorRank(A x) {
+        requireTotal();
+        int r = Collections.binarySearch(ranks.elements(), x, comparator.orElseThrow());
+
+        return r >= 0 ? r : -r - 2;
+    }
+
+    private int ceilingRank(A x) {
+        requireTotal();
+        int r = Collections.binarySearch(ranks.elements(), x, comparator.orElseThrow());
+
+        return r >= 0 ? r : -r - 1;
+    }
+
+    private void requireTotal() {
+        if (ranks == null) {
+            throw new IllegalStateException("Ordering must be built from a comparator");
+        }
+    }
+
+    private void requireElement(A a) {
+        if (!domain.contains(a)) {
+            throw new IllegalArgumentException("Element must be contained in the domain");
+        }
+    }
+
+    /**
+     * The covering relation of a total ordering as a read-only view of the pairs of consecutive
+     * elements, answering {@code contains} from the ranks.
+     */
+    private final class CoveringRelationView extends AbstractSet<Pair<A, A>> {
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Pair<?, ?> pair)) {
+                return false;
+            }
+
+            int i = ranks.indexOf(pair.a());
+
+            return i >= 0 && i + 1 == ranks.indexOf(pair.b());
+        }
+
+        @Override
+        public int size() {
+            return Math.max(ranks.size() - 1, 0);
+        }
+
+        @Override
+        public Iterator<Pair<A, A>> iterator() {
+            return IntStream.range(0, size())
+                .mapToObj(i -> new Pair<>(ranks.get(i), ranks.get(i + 1)))
+                .iterator();
+        }
+    }
+
+    /**
+     * The reflexive-transitive closure of the covering relation as a read-only view, answering
+     * {@code contains} with {@link #lessOrEqual(Object, Object)} and enumerating pairs on demand,
+     * so an ordering never holds its quadratic number of pairs.
+     */
+    private final class RelationSetView extends AbstractSet<Pair<A, A>> {
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object o) {
+            return o instanceof Pair<?, ?> pair
+                && domain.contains(pair.a())
+                && domain.contains(pair.b())
+                && lessOrEqual((A) pair.a(), (A) pair.b());
+        }
+
+        @Override
+        public int size() {
+            long n = domain.size();
+            long size = ranks != null ? n * (n + 1) / 2 : n + upIndex.pairsCount();
+
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Iterator<Pair<A, A>> iterator() {
+            if (ranks != null) {
+                int n = ranks.size();
+
+                return IntStream.range(0, n)
+                    .boxed()
+                    .flatMap(i -> IntStream.range(i, n).mapToObj(j -> new Pair<>(ranks.get(i), ranks.get(j))))
+                    .iterator();
+            }
+
+            return Stream.concat(domain.stream().map(x -> new Pair<>(x, x)), upIndex.pairs()).iterator();
+        }
+    }
 }
@@ -2,17 +2,20 @@ package com.speedbirdkk.discretetoolkit.model.relational;
 
 import java.util.function.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.speedbirdkk.discretetoolkit.model.Pair;
-import com.speedbirdkk.discretetoolkit.utils.Cartesian;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Relation<A, B> implements Relational<A, B> {
     private final Set<A> domain;
     private final Set<B> codomain;
     private final BiPredicate<A, B> predicate;
     private final Set<Pair<A, B>> relationSet;
+    private final boolean lazy;
 
     /**
      * Construct a relation specifying:
@@ -25,11 +28,31 @@ public final class Relation<A, B> implements Relational<A, B> {
         this.domain = Set.copyOf(domain);
         this.codomain = Set.copyOf(codomain);
         this.predicate = predicate;
+        this.lazy = false;
 
-        relationSet = Set.copyOf(Cartesian.product(domain, codomain)
-            .stream()
-            .filter(pair -> predicate.test(pair.a(), pair.b()))
-            .collect(Collectors.toSet()));
+        relationSet = pairs(List.copyOf(this.domain), this.codomain, predicate)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Construct a lazy relation from a domain, a codomain and a bipredicate.
+     * Nothing is computed up front: relates evaluates the predicate directly and relationSet is a
+     * read-only view that enumerates the pairs on demand and splits by domain element for parallel
+     * streams. If memoise is true, each result of the predicate is cached on first evaluation.
+     */
+    private Relation(Set<A> domain, Set<B> codomain, BiPredicate<A, B> predicate, boolean memoise) {
+        this.domain = Set.copyOf(domain);
+        this.codomain = Set.copyOf(codomain);
+        this.lazy = true;
+
+        if (memoise) {
+            Map<Pair<A, B>, Boolean> cache = new ConcurrentHashMap<>();
+            this.predicate = (a, b) -> cache.computeIfAbsent(new Pair<>(a, b), pair -> predicate.test(a, b));
+        } else {
+            this.predicate = predicate;
+        }
+
+        this.relationSet = new LazyRelationSet();
     }
 
     /**
@@ -48,6 +71,7 @@ public final class Relation<A, B> implements Relational<A, B> {
             .collect(Collectors.toSet()));
         
         this.predicate = (a, b) -> relationSet.contains(new Pair<>(a, b));
+        this.lazy = false;
     }
 
     /**
@@ -59,6 +83,49 @@ public final class Relation<A, B> implements Relational<A, B> {
         this.relationSet = Set.copyOf(relationSet);
 
         this.predicate = (a, b) -> relationSet.contains(new Pair<>(a, b));
+        this.lazy = false;
+    }
+
+    /**
+     * Returns a lazy relation, which never materialises the Cartesian product of domain and codomain.
+     */
+    public static <A, B> Relation<A, B> lazy(Set<A> domain, Set<B> codomain, BiPredicate<A, B> predicate) {
+        return lazy(domain, codomain, predicate, false);
+    }
+
+    /**
+     * Returns a lazy relation, caching the result of the predicate for every pair it is evaluated on
+     * if memoise is true. The cache is safe for parallel use and grows with the number of distinct
+     * pairs tested, up to the size of the Cartesian product.
+     */
+    public static <A, B> Relation<A, B> lazy(Set<A> domain, Set<B> codomain, BiPredicate<A, B> predicate, boolean memoise) {
+        Objects.requireNonNull(predicate, "Predicate must not be null");
+
+        return new Relation<>(domain, codomain, predicate, memoise);
+    }
+
+    /**
+     * Returns a relation holding the relation set of this relation, computed in parallel if this
+     * relation is lazy, or this relation itself otherwise.
+     */
+    public Relation<A, B> materialise() {
+        if (!lazy) {
+            return this;
+        }
+
+        return new Relation<>(domain, codomain, relationSet.parallelStream().collect(Collectors.toSet()));
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    private static <A, B> Stream<Pair<A, B>> pairs(List<A> domain, Set<B> codomain, BiPredicate<A, B> predicate) {
+        return IntStream.range(0, domain.size())
+            .mapToObj(domain::get)
+            .flatMap(a -> codomain.stream()
+                .filter(b -> predicate.test(a, b))
+                .map(b -> new Pair<>(a, b)));
     }
 
     public Set<A> domain() {
@@ -78,6 +145,10 @@ public final class Relation<A, B> implements Relational<A, B> {
     }
 
     public boolean relates(A a, B b) {
+        if (lazy) {
+            return domain.contains(a) && codomain.contains(b) && predicate.test(a, b);
+        }
+
         return relationSet.contains(new Pair<>(a, b));
     }
 
@@ -106,4 +177,43 @@ public final class Relation<A, B> implements Relational<A, B> {
     public String toString() {
         return "Relation = " + relationSet.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * The relation set of a lazy relation. Pairs are produced by testing the predicate on each
+     * element of the codomain for one element of the domain at a time, and the spliterator splits
+     * the range of domain elements, so parallel streams share the work without materialising
+     * anything. The size is counted once, in parallel, on first request.
+     */
+    private final class LazyRelationSet extends AbstractSet<Pair<A, B>> {
+        private final List<A> rows = List.copyOf(domain);
+        private volatile int size = -1;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object o) {
+            return o instanceof Pair<?, ?> pair
+                && domain.contains(pair.a())
+                && codomain.contains(pair.b())
+                && predicate.test((A) pair.a(), (B) pair.b());
+        }
+
+        @Override
+        public Iterator<Pair<A, B>> iterator() {
+            return pairs(rows, codomain, predicate).iterator();
+        }
+
+        @Override
+        public Spliterator<Pair<A, B>> spliterator() {
+            return pairs(rows, codomain, predicate).parallel().spliterator();
+        }
+
+        @Override
+        public int size() {
+            if (size < 0) {
+                size = (int) Math.min(Integer.MAX_VALUE, pairs(rows, codomain, predicate).parallel().count());
+            }
+
+            return size;
+        }
+    }
+}
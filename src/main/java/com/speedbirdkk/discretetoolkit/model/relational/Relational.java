@@ -4,7 +4,7 @@ import java.util.Set;
 
 import com.speedbirdkk.discretetoolkit.model.Pair;
 
-public sealed interface Relational<A, B> permits Mapping, Ordering, Relation {
+public sealed interface Relational<A, B> permits Equivalence, Mapping, Ordering, Relation {
     Set<A> domain();
     Set<B> codomain();
     Set<Pair<A, B>> relationSet();
@@ -1,9 +1,15 @@
 package com.speedbirdkk.discretetoolkit.utils;
 
+import java.util.stream.IntStream;
+
 import com.speedbirdkk.discretetoolkit.exceptions.NotASquareMatrixException;
+import com.speedbirdkk.discretetoolkit.model.BitMatrix;
 import com.speedbirdkk.discretetoolkit.model.Matrix;
 
 public final class Matrices {
+    public static final int NO_PATH = Integer.MAX_VALUE;
+    public static final int DEFAULT_TILE_SIZE = 128;
+
     private Matrices() {}
 
     public static Matrix floydWarshall(Matrix adj) {
@@ -31,4 +37,218 @@ public final class Matrices {
 
         return new Matrix(copyOfEntries, adj.rowLabels(), adj.columnLabels());
     }
+
+    public static Matrix parallelFloydWarshall(Matrix adj) {
+        return parallelFloydWarshall(adj, DEFAULT_TILE_SIZE);
+    }
+
+    public static Matrix parallelFloydWarshall(Matrix adj, int tileSize) {
+        return new Matrix(blocked(adj, tileSize, Matrices::closeTile), adj.rowLabels(), adj.columnLabels());
+    }
+
+    // Entries are arc weights with NO_PATH where there is no arc. Distances are exact as long as
+    // there is no negative cycle.
+    public static Matrix minPlusFloydWarshall(Matrix weights) {
+        if (!Validate.squareMatrix(weights)) {
+            throw new NotASquareMatrixException("Weight matrix must be a square matrix");
+        }
+
+        int m = weights.rows();
+        int[][] distances = copyOf(weights.entries(), m);
+        relaxTile(distances, 0, m, 0, m, 0, m);
+
+        return new Matrix(distances, weights.rowLabels(), weights.columnLabels());
+    }
+
+    public static Matrix parallelMinPlusFloydWarshall(Matrix weights) {
+        return parallelMinPlusFloydWarshall(weights, DEFAULT_TILE_SIZE);
+    }
+
+    public static Matrix parallelMinPlusFloydWarshall(Matrix weights, int tileSize) {
+        return new Matrix(blocked(weights, tileSize, Matrices::relaxTile), weights.rowLabels(), weights.columnLabels());
+    }
+
+    public static BitMatrix floydWarshall(BitMatrix adj) {
+        if (adj.rows() != adj.columns()) {
+            throw new NotASquareMatrixException("Adjacency matrix must be a square matrix");
+        }
+
+        int m = adj.rows();
+        BitMatrix closure = adj.copy();
+
+        // Warshall's algorithm by rows: if i reaches k then i reaches everything k reaches,
+        // so row k is OR-ed into row i one 64-bit word at a time.
+        for (int k = 0; k < m; k++) {
+            long[] rowK = closure.row(k);
+            int word = k >>> 6;
+            long bit = 1L << k;
+
+            for (int i = 0; i < m; i++) {
+                long[] rowI = closure.row(i);
+
+                if (i != k && (rowI[word] & bit) != 0) {
+                    for (int w = 0; w < rowI.length; w++) {
+                        rowI[w] |= rowK[w];
+                    }
+                }
+            }
+        }
+
+        return closure;
+    }
+
+    public static BitMatrix product(BitMatrix left, BitMatrix right) {
+        return product(left, right, false);
+    }
+
+    public static BitMatrix product(BitMatrix left, BitMatrix right, boolean parallel) {
+        if (left.columns() != right.rows()) {
+            throw new IllegalArgumentException("Number of columns of the left matrix must equal the number of rows of the right matrix");
+        }
+
+        BitMatrix out = new BitMatrix(left.rows(), right.columns());
+        IntStream rows = IntStream.range(0, left.rows());
+
+        // Boolean product by rows: row i of the product is the OR of the rows j of the right matrix
+        // for which entry (i, j) of the left matrix is set. Rows are independent, so they can be
+        // computed in parallel.
+        (parallel ? rows.parallel() : rows).forEach(i -> {
+            long[] rowL = left.row(i);
+            long[] rowOut = out.row(i);
+
+            for (int w = 0; w < rowL.length; w++) {
+                for (long word = rowL[w]; word != 0; word &= word - 1) {
+                    long[] rowR = right.row((w << 6) + Long.numberOfTrailingZeros(word));
+
+                    for (int v = 0; v < rowOut.length; v++) {
+                        rowOut[v] |= rowR[v];
+                    }
+                }
+            }
+        });
+
+        return out;
+    }
+
+    // Updates the tile with rows iFrom..iTo - 1 and columns jFrom..jTo - 1 through the intermediate
+    // vertices kFrom..kTo - 1, with k as the outermost loop.
+    @FunctionalInterface
+    private interface TileKernel {
+        void update(int[][] d, int kFrom, int kTo, int iFrom, int iTo, int jFrom, int jTo);
+    }
+
+    /*
+     * Blocked Floyd-Warshall. For each block of intermediate vertices the diagonal tile is closed
+     * first, then the tiles in its row and column, which only depend on themselves and the diagonal
+     * tile, and then every other tile, which only depends on the tiles in its row and column. The
+     * tiles of each of the last two phases write disjoint cells and run in parallel on the common
+     * ForkJoinPool. Every path is still relaxed through every intermediate vertex, so the result is
+     * the same as the sequential loop.
+     */
+    private static int[][] blocked(Matrix adj, int tileSize, TileKernel kernel) {
+        if (!Validate.squareMatrix(adj)) {
+            throw new NotASquareMatrixException("Adjacency matrix must be a square matrix");
+        }
+
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive");
+        }
+
+        int m = adj.rows();
+        int[][] d = copyOf(adj.entries(), m);
+        int blocks = (m + tileSize - 1) / tileSize;
+
+        for (int kb = 0; kb < blocks; kb++) {
+            int pivot = kb;
+            int kFrom = kb * tileSize;
+            int kTo = Math.min(m, kFrom + tileSize);
+
+            kernel.update(d, kFrom, kTo, kFrom, kTo, kFrom, kTo);
+
+            IntStream.range(0, 2 * blocks).parallel().forEach(t -> {
+                int b = t >>> 1;
+
+                if (b == pivot) {
+                    return;
+                }
+
+                int from = b * tileSize;
+                int to = Math.min(m, from + tileSize);
+
+                if ((t & 1) == 0) {
+                    kernel.update(d, kFrom, kTo, kFrom, kTo, from, to);
+                } else {
+                    kernel.update(d, kFrom, kTo, from, to, kFrom, kTo);
+                }
+            });
+
+            IntStream.range(0, blocks * blocks).parallel().forEach(t -> {
+                int ib = t / blocks;
+                int jb = t % blocks;
+
+                if (ib == pivot || jb == pivot) {
+                    return;
+                }
+
+                int iFrom = ib * tileSize;
+                int jFrom = jb * tileSize;
+                kernel.update(d, kFrom, kTo, iFrom, Math.min(m, iFrom + tileSize), jFrom, Math.min(m, jFrom + tileSize));
+            });
+        }
+
+        return d;
+    }
+
+    private static void closeTile(int[][] d, int kFrom, int kTo, int iFrom, int iTo, int jFrom, int jTo) {
+        for (int k = kFrom; k < kTo; k++) {
+            int[] rowK = d[k];
+
+            for (int i = iFrom; i < iTo; i++) {
+                int[] rowI = d[i];
+
+                if (rowI[k] != 1) {
+                    continue;
+                }
+
+                for (int j = jFrom; j < jTo; j++) {
+                    if (rowK[j] == 1) {
+                        rowI[j] = 1;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void relaxTile(int[][] d, int kFrom, int kTo, int iFrom, int iTo, int jFrom, int jTo) {
+        for (int k = kFrom; k < kTo; k++) {
+            int[] rowK = d[k];
+
+            for (int i = iFrom; i < iTo; i++) {
+                int[] rowI = d[i];
+                int dik = rowI[k];
+
+                if (dik == NO_PATH) {
+                    continue;
+                }
+
+                for (int j = jFrom; j < jTo; j++) {
+                    int dkj = rowK[j];
+
+                    if (dkj != NO_PATH && (long) dik + dkj < rowI[j]) {
+                        rowI[j] = dik + dkj;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int[][] copyOf(int[][] entries, int m) {
+        int[][] out = new int[m][];
+
+        for (int i = 0; i < m; i++) {
+            out[i] = entries[i].clone();
+        }
+
+        return out;
+    }
 }
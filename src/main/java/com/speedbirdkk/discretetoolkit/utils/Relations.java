@@ -1,16 +1,39 @@
 package com.speedbirdkk.discretetoolkit.utils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import com.speedbirdkk.discretetoolkit.model.BitMatrix;
 import com.speedbirdkk.discretetoolkit.model.Matrix;
 import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.Triple;
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
+import com.speedbirdkk.discretetoolkit.model.graph.DGraph;
 import com.speedbirdkk.discretetoolkit.model.relational.Relation;
 import com.speedbirdkk.discretetoolkit.model.relational.Relational;
+import com.speedbirdkk.discretetoolkit.utils.graph.DGraphs;
+import com.speedbirdkk.discretetoolkit.utils.graph.ReachabilityIndex;
 
 public final class Relations {
+    // Relations on up to this many elements, or with at least one pair in DENSE_RATIO cells, are
+    // closed on a BitMatrix; larger, sparser ones through a ReachabilityIndex.
+    private static final int DENSE_MAX_ELEMENTS = 4096;
+    private static final int DENSE_RATIO = 64;
+    // Parallel joins split both sides into this many hash partitions per worker thread, so that
+    // uneven partitions still balance out across the pool.
+    private static final int PARTITIONS_PER_THREAD = 4;
+
     private Relations() {}
 
     public static <A> Set<Pair<A, A>> reflexiveClosure(Set<A> domain, Set<Pair<A, A>> relationSet) {
@@ -24,10 +47,49 @@ public final class Relations {
     }
 
     public static <A> Set<Pair<A, A>> transitiveClosure(Set<A> domain, Set<Pair<A, A>> relationSet) {
-        Matrix adj = adjacencyMatrix(domain, domain, relationSet);
-        Matrix adjClosed = Matrices.floydWarshall(adj);
+        return transitiveClosure(Indexer.of(domain), relationSet);
+    }
+
+    public static <A> Set<Pair<A, A>> transitiveClosure(Indexer<A> domain, Set<Pair<A, A>> relationSet) {
+        long n = domain.size();
+
+        if (n > DENSE_MAX_ELEMENTS && (long) relationSet.size() * DENSE_RATIO < n * n) {
+            return ReachabilityIndex.of(domain, relationSet)
+                .pairs()
+                .collect(Collectors.toSet());
+        }
+
+        BitMatrix adj = adjacencyBitMatrix(domain, domain, relationSet);
+        BitMatrix adjClosed = Matrices.floydWarshall(adj);
+
+        return relationSetFromBitMatrix(domain, domain, adjClosed);
+    }
+
+    // Pairs (x, x) are dropped, so the transitive reduction of a partial order is its covering
+    // relation. Pairs with an element outside the domain are ignored. The remaining pairs must not
+    // form a cycle.
+    public static <A> Set<Pair<A, A>> transitiveReduction(Set<A> domain, Set<Pair<A, A>> relationSet) {
+        return transitiveReduction(Indexer.of(domain), relationSet);
+    }
+
+    public static <A> Set<Pair<A, A>> transitiveReduction(Indexer<A> domain, Set<Pair<A, A>> relationSet) {
+        int[] sources = new int[relationSet.size()];
+        int[] targets = new int[relationSet.size()];
+        int arcs = 0;
+
+        for (Pair<A, A> pair : relationSet) {
+            int i = domain.indexOf(pair.a());
+            int j = domain.indexOf(pair.b());
+
+            if (i >= 0 && j >= 0 && i != j) {
+                sources[arcs] = i;
+                targets[arcs++] = j;
+            }
+        }
+
+        DGraph<A> g = DGraph.fromIndices(domain, Arrays.copyOf(sources, arcs), Arrays.copyOf(targets, arcs));
 
-        return relationSetFromMatrix(domain, domain, adjClosed);
+        return new HashSet<>(DGraphs.transitiveReduction(g).arcs());
     }
 
     public static <A, B> Relation<B, A> inverse(Relational<A, B> relational) {
@@ -38,16 +100,183 @@ public final class Relations {
         return new Relation<>(relational.codomain(), relational.domain(), inverseRelationSet);
     }
 
+    // Composition first;second = {(a, c) | a first b and b second c for some b}. When every set
+    // involved is small enough and both relations are dense, it is a boolean product of their bit
+    // matrices; otherwise a hash join on the middle element, indexed on the smaller relation set.
+    // In parallel mode the rows of the product, or the hash partitions of the join, are processed
+    // on the common pool.
+    public static <A, B, C> Relation<A, C> compose(Relational<A, B> first, Relational<B, C> second) {
+        return compose(first, second, false);
+    }
+
+    public static <A, B, C> Relation<A, C> compose(Relational<A, B> first, Relational<B, C> second, boolean parallel) {
+        Set<Pair<A, B>> left = first.relationSet();
+        Set<Pair<B, C>> right = second.relationSet();
+        Set<Pair<A, C>> out;
+
+        if (dense(first.domain().size(), first.codomain().size(), left.size())
+            && dense(second.domain().size(), second.codomain().size(), right.size())) {
+            Indexer<A> as = Indexer.of(first.domain());
+            Indexer<B> bs = Indexer.of(first.codomain());
+            Indexer<C> cs = Indexer.of(second.codomain());
+
+            BitMatrix product = Matrices.product(
+                adjacencyBitMatrix(as, bs, left), adjacencyBitMatrix(bs, cs, right), parallel);
+
+            out = relationSetFromBitMatrix(as, cs, product);
+        } else {
+            out = join(left, right, parallel, (a, b, c) -> new Pair<>(a, c));
+        }
+
+        return new Relation<>(first.domain(), second.codomain(), out);
+    }
+
+    // Natural join on the middle element: every (a, b, c) with a first b and b second c.
+    public static <A, B, C> Set<Triple<A, B, C>> join(Relational<A, B> first, Relational<B, C> second) {
+        return join(first, second, false);
+    }
+
+    public static <A, B, C> Set<Triple<A, B, C>> join(Relational<A, B> first, Relational<B, C> second, boolean parallel) {
+        return join(first.relationSet(), second.relationSet(), parallel, Triple::new);
+    }
+
+    public static <A, B> Relation<A, B> restrictDomain(Relational<A, B> relational, Set<A> subset) {
+        if (!Validate.subset(subset, relational.domain())) {
+            throw new IllegalArgumentException("Subset must be contained in the domain");
+        }
+
+        Set<Pair<A, B>> out = relational.relationSet().stream()
+            .filter(r -> subset.contains(r.a()))
+            .collect(Collectors.toSet());
+
+        return new Relation<>(subset, relational.codomain(), out);
+    }
+
+    public static <A, B> Relation<A, B> restrictCodomain(Relational<A, B> relational, Set<B> subset) {
+        if (!Validate.subset(subset, relational.codomain())) {
+            throw new IllegalArgumentException("Subset must be contained in the codomain");
+        }
+
+        Set<Pair<A, B>> out = relational.relationSet().stream()
+            .filter(r -> subset.contains(r.b()))
+            .collect(Collectors.toSet());
+
+        return new Relation<>(relational.domain(), subset, out);
+    }
+
+    // The set of elements related to some element of the subset.
+    public static <A, B> Set<B> image(Relational<A, B> relational, Set<A> subset) {
+        return relational.relationSet().stream()
+            .filter(r -> subset.contains(r.a()))
+            .map(Pair::b)
+            .collect(Collectors.toSet());
+    }
+
+    // The set of elements related to some element of the subset, in the inverse relation.
+    public static <A, B> Set<A> preimage(Relational<A, B> relational, Set<B> subset) {
+        return relational.relationSet().stream()
+            .filter(r -> subset.contains(r.b()))
+            .map(Pair::a)
+            .collect(Collectors.toSet());
+    }
+
+    @FunctionalInterface
+    private interface Combiner<A, B, C, T> {
+        T combine(A a, B b, C c);
+    }
+
+    private static boolean dense(long rows, long columns, long pairs) {
+        return rows <= DENSE_MAX_ELEMENTS
+            && columns <= DENSE_MAX_ELEMENTS
+            && pairs * DENSE_RATIO >= rows * columns;
+    }
+
+    // In parallel mode both sides are split by the hash of the middle element, so that matching
+    // pairs always land in the same partition, and the partitions are joined independently into
+    // a concurrent set.
+    private static <A, B, C, T> Set<T> join(
+        Collection<Pair<A, B>> left, Collection<Pair<B, C>> right, boolean parallel, Combiner<A, B, C, T> combiner
+    ) {
+        if (!parallel) {
+            Set<T> out = new HashSet<>();
+            hashJoin(left, right, combiner, out);
+            return out;
+        }
+
+        int partitions = Math.max(1, ForkJoinPool.getCommonPoolParallelism()) * PARTITIONS_PER_THREAD;
+        List<Pair<A, B>>[] leftParts = partition(left, partitions, Pair::b);
+        List<Pair<B, C>>[] rightParts = partition(right, partitions, Pair::a);
+        Set<T> out = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, partitions).parallel()
+            .forEach(k -> hashJoin(leftParts[k], rightParts[k], combiner, out));
+
+        return out;
+    }
+
+    // Builds a map from middle element to partners over the smaller side and probes it with the
+    // larger one, so the map holds min(|left|, |right|) entries.
+    private static <A, B, C, T> void hashJoin(
+        Collection<Pair<A, B>> left, Collection<Pair<B, C>> right, Combiner<A, B, C, T> combiner, Set<T> out
+    ) {
+        if (left.size() <= right.size()) {
+            Map<B, List<A>> index = new HashMap<>();
+
+            for (Pair<A, B> r : left) {
+                index.computeIfAbsent(r.b(), b -> new ArrayList<>()).add(r.a());
+            }
+
+            for (Pair<B, C> s : right) {
+                for (A a : index.getOrDefault(s.a(), List.of())) {
+                    out.add(combiner.combine(a, s.a(), s.b()));
+                }
+            }
+        } else {
+            Map<B, List<C>> index = new HashMap<>();
+
+            for (Pair<B, C> s : right) {
+                index.computeIfAbsent(s.a(), b -> new ArrayList<>()).add(s.b());
+            }
+
+            for (Pair<A, B> r : left) {
+                for (C c : index.getOrDefault(r.b(), List.of())) {
+                    out.add(combiner.combine(r.a(), r.b(), c));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <P> List<P>[] partition(Collection<P> pairs, int partitions, Function<P, ?> key) {
+        List<P>[] out = (List<P>[]) new List<?>[partitions];
+
+        for (int k = 0; k < partitions; k++) {
+            out[k] = new ArrayList<>();
+        }
+
+        for (P pair : pairs) {
+            int h = key.apply(pair).hashCode() * 0x9e3779b9;
+            out[Math.floorMod(h ^ (h >>> 16), partitions)].add(pair);
+        }
+
+        return out;
+    }
+
+    // The Set overloads index elements in the order of their string representations, so that
+    // matrix rows and columns come out in a readable order. The Indexer overloads use the order of
+    // the indexer and neither allocate strings nor sort.
     public static <A, B> Set<Pair<A, B>> relationSetFromMatrix(Set<A> domain, Set<B> codomain, Matrix adj) {
+        return relationSetFromMatrix(sortedIndexer(domain), sortedIndexer(codomain), adj);
+    }
+
+    public static <A, B> Set<Pair<A, B>> relationSetFromMatrix(Indexer<A> domain, Indexer<B> codomain, Matrix adj) {
         Set<Pair<A, B>> out = new HashSet<>();
         int[][] entries = adj.entries();
-        List<A> domainList = Transform.toSortedListFromSet(domain);
-        List<B> codomainList = Transform.toSortedListFromSet(codomain);
 
         for (int i = 0; i < adj.rows(); i++) {
             for (int j = 0; j < adj.columns(); j++) {
                 if (entries[i][j] == 1) {
-                    out.add(new Pair<>(domainList.get(i), codomainList.get(j)));
+                    out.add(new Pair<>(domain.get(i), codomain.get(j)));
                 }
             }
         }
@@ -56,29 +285,71 @@ public final class Relations {
     }
 
     public static <A, B> Matrix adjacencyMatrix(Set<A> domain, Set<B> codomain, Set<Pair<A, B>> relationSet) {
-        List<A> domainList = Transform.toSortedListFromSet(domain);
-        List<B> codomainList = Transform.toSortedListFromSet(codomain);
-        
-        int m = domainList.size();
-        int n = codomainList.size();
+        return adjacencyMatrix(sortedIndexer(domain), sortedIndexer(codomain), relationSet);
+    }
 
-        int[][] entries = new int[m][n];
+    public static <A, B> Matrix adjacencyMatrix(Indexer<A> domain, Indexer<B> codomain, Set<Pair<A, B>> relationSet) {
+        int[][] entries = new int[domain.size()][codomain.size()];
 
-        for (int i = 0; i < m; i++) {
-            for (int j = 0; j < n; j++) {
-                if (relationSet.contains(new Pair<A,B>(domainList.get(i), codomainList.get(j)))) {
-                    entries[i][j] = 1;
-                } else {
-                    entries[i][j] = 0;
-                }
+        // One pass over the relation set instead of probing it for each of the m * n cells.
+        for (Pair<A, B> pair : relationSet) {
+            int i = domain.indexOf(pair.a());
+            int j = codomain.indexOf(pair.b());
+
+            if (i >= 0 && j >= 0) {
+                entries[i][j] = 1;
             }
         }
 
         return new Matrix(
-            entries, Transform.toLabelsFromList(domainList), Transform.toLabelsFromList(codomainList));
+            entries, Transform.toLabelsFromList(domain.elements()), Transform.toLabelsFromList(codomain.elements()));
     }
 
     public static <A, B> Matrix adjacencyMatrix(Relational<A, B> relational) {
         return adjacencyMatrix(relational.domain(), relational.codomain(), relational.relationSet());
     }
+
+    public static <A, B> BitMatrix adjacencyBitMatrix(Set<A> domain, Set<B> codomain, Set<Pair<A, B>> relationSet) {
+        return adjacencyBitMatrix(sortedIndexer(domain), sortedIndexer(codomain), relationSet);
+    }
+
+    public static <A, B> BitMatrix adjacencyBitMatrix(Indexer<A> domain, Indexer<B> codomain, Set<Pair<A, B>> relationSet) {
+        BitMatrix out = new BitMatrix(domain.size(), codomain.size());
+
+        for (Pair<A, B> pair : relationSet) {
+            int i = domain.indexOf(pair.a());
+            int j = codomain.indexOf(pair.b());
+
+            if (i >= 0 && j >= 0) {
+                out.set(i, j);
+            }
+        }
+
+        return out;
+    }
+
+    public static <A, B> Set<Pair<A, B>> relationSetFromBitMatrix(Set<A> domain, Set<B> codomain, BitMatrix adj) {
+        return relationSetFromBitMatrix(sortedIndexer(domain), sortedIndexer(codomain), adj);
+    }
+
+    public static <A, B> Set<Pair<A, B>> relationSetFromBitMatrix(Indexer<A> domain, Indexer<B> codomain, BitMatrix adj) {
+        Set<Pair<A, B>> out = new HashSet<>();
+
+        for (int i = 0; i < adj.rows(); i++) {
+            long[] row = adj.row(i);
+
+            for (int w = 0; w < row.length; w++) {
+                for (long word = row[w]; word != 0; word &= word - 1) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(word);
+                    out.add(new Pair<>(domain.get(i), codomain.get(j)));
+                }
+            }
+        }
+
+        return out;
+    }
+
+    private static <A> Indexer<A> sortedIndexer(Set<A> set) {
+        return Indexer.of(Transform.toSortedListFromSet(set));
+    }
 }
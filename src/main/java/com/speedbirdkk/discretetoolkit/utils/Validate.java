@@ -1,10 +1,16 @@
 package com.speedbirdkk.discretetoolkit.utils;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.speedbirdkk.discretetoolkit.model.Matrix;
 import com.speedbirdkk.discretetoolkit.model.Pair;
@@ -14,8 +20,7 @@ public final class Validate {
     private Validate() {}
 
     public static <A> boolean reflexivity(Set<A> domain, Set<Pair<A, A>> relationSet) {
-        return domain.stream()
-            .allMatch(x -> relationSet.contains(new Pair<>(x, x)));
+        return reflexivityCounterexample(domain, relationSet, false).isEmpty();
     }
 
     public static <A> boolean irreflexivity(Set<A> domain, Set<Pair<A, A>> relationSet) {
@@ -24,23 +29,27 @@ public final class Validate {
     }
 
     public static <A> boolean symmetry(Set<Pair<A, A>> relationSet) {
-        return relationSet.stream()
-            .allMatch(r -> relationSet.contains(new Pair<>(r.b(), r.a())));
+        return symmetryCounterexample(relationSet, false).isEmpty();
+    }
+
+    public static <A> boolean symmetry(Set<Pair<A, A>> relationSet, boolean parallel) {
+        return symmetryCounterexample(relationSet, parallel).isEmpty();
     }
 
     public static <A> boolean antisymmetry(Set<Pair<A, A>> relationSet) {
-        return relationSet.stream()
-            .filter(r -> !r.a().equals(r.b()))
-            .noneMatch(r -> relationSet.contains(new Pair<>(r.b(), r.a())));
+        return antisymmetryCounterexample(relationSet, false).isEmpty();
+    }
+
+    public static <A> boolean antisymmetry(Set<Pair<A, A>> relationSet, boolean parallel) {
+        return antisymmetryCounterexample(relationSet, parallel).isEmpty();
     }
 
     public static <A> boolean transitivity(Set<Pair<A, A>> relationSet) {
-        return relationSet.stream()
-            .allMatch(r ->
-                relationSet.stream()
-                    .filter(s -> r.b().equals(s.a()))
-                    .allMatch(s -> relationSet.contains(new Pair<>(r.a(), s.b())))
-            );
+        return transitivityCounterexample(relationSet, false).isEmpty();
+    }
+
+    public static <A> boolean transitivity(Set<Pair<A, A>> relationSet, boolean parallel) {
+        return transitivityCounterexample(relationSet, parallel).isEmpty();
     }
 
     public static <A> boolean ordering(Set<A> domain, Set<Pair<A, A>> relationSet) {
@@ -49,6 +58,79 @@ public final class Validate {
             && transitivity(relationSet);
     }
 
+    public static <A> boolean ordering(Set<A> domain, Set<Pair<A, A>> relationSet, boolean parallel) {
+        return reflexivityCounterexample(domain, relationSet, parallel).isEmpty()
+            && antisymmetryCounterexample(relationSet, parallel).isEmpty()
+            && transitivityCounterexample(relationSet, parallel).isEmpty();
+    }
+
+    // The counterexample checks stop at the first violation found and return it: an element or a
+    // pair that is missing from the relation set, or a pair of it that breaks the property. In
+    // parallel mode any violation may be returned, not necessarily the first in iteration order.
+
+    // Returns an element x of the domain such that (x, x) is not in the relation set.
+    public static <A> Optional<A> reflexivityCounterexample(Set<A> domain, Set<Pair<A, A>> relationSet, boolean parallel) {
+        return find(streamOf(domain, parallel)
+            .filter(x -> !relationSet.contains(new Pair<>(x, x))), parallel);
+    }
+
+    // Returns a pair (a, b) of the relation set such that (b, a) is not.
+    public static <A> Optional<Pair<A, A>> symmetryCounterexample(Set<Pair<A, A>> relationSet, boolean parallel) {
+        return find(streamOf(relationSet, parallel)
+            .filter(r -> !relationSet.contains(new Pair<>(r.b(), r.a()))), parallel);
+    }
+
+    // Returns a pair (a, b) of the relation set with a != b such that (b, a) is also in it.
+    public static <A> Optional<Pair<A, A>> antisymmetryCounterexample(Set<Pair<A, A>> relationSet, boolean parallel) {
+        return find(streamOf(relationSet, parallel)
+            .filter(r -> !r.a().equals(r.b()))
+            .filter(r -> relationSet.contains(new Pair<>(r.b(), r.a()))), parallel);
+    }
+
+    // Returns a pair (a, c) missing from the relation set although (a, b) and (b, c) are in it.
+    // Every path of length two is walked once through a successor index built per call, so the
+    // check runs in O(|R| + sum of out-degree * out-degree of successors) instead of O(|R|^2).
+    public static <A> Optional<Pair<A, A>> transitivityCounterexample(Set<Pair<A, A>> relationSet, boolean parallel) {
+        Map<A, Set<A>> successors = successors(relationSet, parallel);
+
+        return find(streamOf(successors.entrySet(), parallel)
+            .flatMap(e -> e.getValue().stream()
+                .flatMap(b -> successors.getOrDefault(b, Set.of()).stream())
+                .filter(c -> !e.getValue().contains(c))
+                .map(c -> new Pair<>(e.getKey(), c))), parallel);
+    }
+
+    // Returns an element of the domain that is related to no element or to more than one.
+    public static <A, B> Optional<A> mappingCounterexample(Relation<A, B> relation, boolean parallel) {
+        Map<A, Set<B>> successors = successors(relation.relationSet(), parallel);
+
+        return find(streamOf(relation.domain(), parallel)
+            .filter(x -> successors.getOrDefault(x, Set.of()).size() != 1), parallel);
+    }
+
+    private static <A, B> Map<A, Set<B>> successors(Set<Pair<A, B>> relationSet, boolean parallel) {
+        if (parallel) {
+            return relationSet.parallelStream()
+                .collect(Collectors.groupingByConcurrent(Pair::a, Collectors.mapping(Pair::b, Collectors.toSet())));
+        }
+
+        Map<A, Set<B>> out = new HashMap<>();
+
+        for (Pair<A, B> pair : relationSet) {
+            out.computeIfAbsent(pair.a(), a -> new HashSet<>()).add(pair.b());
+        }
+
+        return out;
+    }
+
+    private static <T> Stream<T> streamOf(Collection<T> collection, boolean parallel) {
+        return parallel ? collection.parallelStream() : collection.stream();
+    }
+
+    private static <T> Optional<T> find(Stream<T> stream, boolean parallel) {
+        return parallel ? stream.findAny() : stream.findFirst();
+    }
+
     public static <A> boolean reflexivity(Relation<A, A> relation) {
         return reflexivity(relation.domain(), relation.relationSet());
     }
@@ -85,18 +167,11 @@ public final class Validate {
     }
 
     public static <A, B> boolean mapping(Relation<A, B> relation) {
-        for (A x : relation.domain()) {
-            long count = relation.relationSet()
-                .stream()
-                .filter(pair -> pair.a().equals(x))
-                .count();
-            
-            if (count != 1) {
-                return false;
-            }
-        }
+        return mappingCounterexample(relation, false).isEmpty();
+    }
 
-        return true;
+    public static <A, B> boolean mapping(Relation<A, B> relation, boolean parallel) {
+        return mappingCounterexample(relation, parallel).isEmpty();
     }
 
     public static <A> boolean subset(Set<A> subset, Set<A> set) {
@@ -0,0 +1,391 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.BitMatrix;
+import com.speedbirdkk.discretetoolkit.model.graph.DGraph;
+
+public final class DGraphs {
+    private DGraphs() {}
+
+    /**
+     * Returns the strongly connected component of every vertex of {@code g}, computed with Tarjan's
+     * algorithm in O(|V| + |E|).
+     *
+     * <p>The depth-first search keeps its own stack of vertices, each paired with its position in its
+     * row of successors, instead of recursing, so paths of any length are handled without overflowing
+     * the thread stack. Components are numbered {@code 0..k-1} in the order Tarjan's algorithm completes
+     * them, which is a reverse topological order of the condensation: if there is an arc from {@code u}
+     * to {@code v} then {@code components[u] >= components[v]}.
+     * @param g the directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the array of component numbers by vertex index
+     */
+    public static int[] componentsOf(DGraph<?> g) {
+        Objects.requireNonNull(g, "Directed graph must not be null");
+
+        int n = g.verticesCount();
+        int[] offsets = g.outOffsets();
+        int[] targets = g.outTargets();
+
+        int[] order = new int[n];
+        int[] low = new int[n];
+        int[] components = new int[n];
+        int[] next = new int[n];
+        int[] stack = new int[n];
+        int[] calls = new int[n];
+        int visited = 0;
+        int count = 0;
+        int sp = 0;
+
+        Arrays.fill(order, -1);
+        Arrays.fill(components, -1);
+
+        for (int s = 0; s < n; s++) {
+            if (order[s] >= 0) {
+                continue;
+            }
+
+            int cp = 0;
+            order[s] = low[s] = visited++;
+            next[s] = offsets[s];
+            stack[sp++] = s;
+            calls[cp++] = s;
+
+            while (cp > 0) {
+                int v = calls[cp - 1];
+
+                if (next[v] < offsets[v + 1]) {
+                    int w = targets[next[v]++];
+
+                    if (order[w] < 0) {
+                        order[w] = low[w] = visited++;
+                        next[w] = offsets[w];
+                        stack[sp++] = w;
+                        calls[cp++] = w;
+                    } else if (components[w] < 0 && order[w] < low[v]) {
+                        // Visited but unassigned vertices are exactly those still on the Tarjan stack.
+                        low[v] = order[w];
+                    }
+
+                    continue;
+                }
+
+                cp--;
+
+                if (low[v] == order[v]) {
+                    int w;
+
+                    do {
+                        w = stack[--sp];
+                        components[w] = count;
+                    } while (w != v);
+
+                    count++;
+                }
+
+                if (cp > 0) {
+                    int u = calls[cp - 1];
+                    low[u] = Math.min(low[u], low[v]);
+                }
+            }
+        }
+
+        return components;
+    }
+
+    /**
+     * Returns the strongly connected components of {@code g} as sets of vertices, in the order of
+     * {@link #componentsOf(DGraph)}.
+     * @param <A> the vertex type
+     * @param g the directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the list of strongly connected components
+     */
+    public static <A> List<Set<A>> stronglyConnectedComponents(DGraph<A> g) {
+        int[] components = componentsOf(g);
+        List<Set<A>> out = new ArrayList<>();
+
+        for (int i = 0; i < components.length; i++) {
+            while (out.size() <= components[i]) {
+                out.add(new HashSet<>());
+            }
+
+            out.get(components[i]).add(g.label(i));
+        }
+
+        out.replaceAll(Collections::unmodifiableSet);
+
+        return Collections.unmodifiableList(out);
+    }
+
+    /**
+     * Returns the condensation of {@code g}, the directed acyclic graph with one vertex per strongly
+     * connected component and an arc from component {@code c} to component {@code d != c} whenever
+     * some arc of {@code g} leads from a vertex of {@code c} to a vertex of {@code d}.
+     *
+     * <p>Vertices of the condensation are the component numbers {@code 0..k-1} of
+     * {@link #componentsOf(DGraph)}, so every arc of the condensation goes from a larger number to a
+     * smaller one. Parallel arcs are removed with a scratch array of marks in O(|V| + |E|).
+     * @param g the directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the condensation of {@code g}
+     */
+    public static DGraph<Integer> condensation(DGraph<?> g) {
+        return condensation(g, componentsOf(g));
+    }
+
+    /**
+     * Returns the condensation of {@code g} for components already computed by
+     * {@link #componentsOf(DGraph)}.
+     * @param g the directed graph
+     * @param components the array of component numbers by vertex index
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code components} does not have an entry for every vertex
+     * @return the condensation of {@code g}
+     * @see #condensation(DGraph)
+     */
+    public static DGraph<Integer> condensation(DGraph<?> g, int[] components) {
+        Objects.requireNonNull(g, "Directed graph must not be null");
+        Objects.requireNonNull(components, "Array of components must not be null");
+
+        int n = g.verticesCount();
+
+        if (components.length != n) {
+            throw new IllegalArgumentException("Array of components must have an entry for every vertex");
+        }
+
+        int k = 0;
+
+        for (int c : components) {
+            k = Math.max(k, c + 1);
+        }
+
+        // Group the vertices by component with a counting sort.
+        int[] starts = new int[k + 1];
+
+        for (int c : components) {
+            starts[c + 1]++;
+        }
+
+        for (int c = 0; c < k; c++) {
+            starts[c + 1] += starts[c];
+        }
+
+        int[] members = new int[n];
+        int[] fill = Arrays.copyOf(starts, k);
+
+        for (int i = 0; i < n; i++) {
+            members[fill[components[i]]++] = i;
+        }
+
+        int[] offsets = g.outOffsets();
+        int[] targets = g.outTargets();
+        int[] marks = new int[k];
+        int[] sources = new int[targets.length];
+        int[] heads = new int[targets.length];
+        int arcs = 0;
+
+        Arrays.fill(marks, -1);
+
+        for (int c = 0; c < k; c++) {
+            for (int m = starts[c]; m < starts[c + 1]; m++) {
+                int u = members[m];
+
+                for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                    int d = components[targets[p]];
+
+                    if (d != c && marks[d] != c) {
+                        marks[d] = c;
+                        sources[arcs] = c;
+                        heads[arcs] = d;
+                        arcs++;
+                    }
+                }
+            }
+        }
+
+        return DGraph.fromIndices(
+            IntStream.range(0, k).boxed().toList(),
+            Arrays.copyOf(sources, arcs),
+            Arrays.copyOf(heads, arcs));
+    }
+
+    /**
+     * Returns {@code true} if {@code g} contains no directed cycle, including arcs from a vertex to
+     * itself.
+     * @param g the directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @return {@code true} if {@code g} is acyclic
+     */
+    public static boolean isAcyclic(DGraph<?> g) {
+        return kahn(g) != null;
+    }
+
+    /**
+     * Returns the vertex indices of {@code g} in a topological order, computed with Kahn's algorithm
+     * in O(|V| + |E|): every arc goes from a vertex earlier in the order to a vertex later in the order.
+     *
+     * <p>Vertices with no remaining predecessors are taken in first-in, first-out order from a queue
+     * held in the output array itself, so no other buffer is allocated besides the in-degree counts.
+     * @param g the directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code g} contains a directed cycle
+     * @return the array of vertex indices in topological order
+     */
+    public static int[] topologicalOrder(DGraph<?> g) {
+        int[] order = kahn(g);
+
+        if (order == null) {
+            throw new IllegalArgumentException("Directed graph must be acyclic");
+        }
+
+        return order;
+    }
+
+    /**
+     * Returns the vertices of {@code g} in a topological order.
+     * @param <A> the vertex type
+     * @param g the directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code g} contains a directed cycle
+     * @return the list of vertices in topological order
+     * @see #topologicalOrder(DGraph)
+     */
+    public static <A> List<A> topologicalSort(DGraph<A> g) {
+        int[] order = topologicalOrder(g);
+        List<A> out = new ArrayList<>(order.length);
+
+        for (int i : order) {
+            out.add(g.label(i));
+        }
+
+        return Collections.unmodifiableList(out);
+    }
+
+    /**
+     * Returns the transitive reduction of an acyclic directed graph {@code g}: the graph on the same
+     * vertices with the fewest arcs that has the same reachability as {@code g}. An arc {@code u -> w}
+     * is kept exactly when there is no other path from {@code u} to {@code w}. For the strict part of
+     * a partial order this is its covering relation, the Hasse diagram.
+     *
+     * <p>Vertices are processed in reverse topological order, keeping for each one the set of vertices
+     * it reaches as a bitset over topological positions. The successors of {@code u} are visited from
+     * the nearest in topological order: a successor already in the set of {@code u} is reached through
+     * an earlier one and its arc is dropped; otherwise the arc is kept and the successor's set is OR-ed
+     * into that of {@code u}, 64 vertices at a time. This takes O(|V| * |E| / 64) time and no path
+     * searches. The set of a vertex is released as soon as all of its predecessors are processed, so
+     * at most one bitset per vertex of the current frontier is held at a time.
+     * @param <A> the vertex type
+     * @param g the acyclic directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code g} contains a directed cycle
+     * @return the transitive reduction of {@code g}, sharing its indexer
+     */
+    public static <A> DGraph<A> transitiveReduction(DGraph<A> g) {
+        int[] order = topologicalOrder(g);
+        int n = order.length;
+        int[] position = new int[n];
+
+        for (int p = 0; p < n; p++) {
+            position[order[p]] = p;
+        }
+
+        int[] offsets = g.outOffsets();
+        int[] targets = g.outTargets();
+        int[] pending = new int[n];
+        long[][] reach = new long[n][];
+        int words = BitMatrix.wordsFor(n);
+
+        int[] sources = new int[g.arcsCount()];
+        int[] heads = new int[g.arcsCount()];
+        int arcs = 0;
+
+        for (int v = 0; v < n; v++) {
+            pending[v] = g.inDegreeAt(v);
+        }
+
+        for (int p = n - 1; p >= 0; p--) {
+            int u = order[p];
+            int from = offsets[u];
+            int to = offsets[u + 1];
+            int[] successors = new int[to - from];
+
+            for (int k = from; k < to; k++) {
+                successors[k - from] = position[targets[k]];
+            }
+
+            Arrays.sort(successors);
+
+            long[] row = new long[words];
+
+            for (int q : successors) {
+                if ((row[q >>> 6] & (1L << q)) != 0) {
+                    continue;
+                }
+
+                long[] rowW = reach[order[q]];
+
+                // rowW only holds positions after q.
+                for (int w = q >>> 6; w < words; w++) {
+                    row[w] |= rowW[w];
+                }
+
+                row[q >>> 6] |= 1L << q;
+                sources[arcs] = u;
+                heads[arcs++] = order[q];
+            }
+
+            reach[u] = row;
+
+            for (int k = from; k < to; k++) {
+                if (--pending[targets[k]] == 0) {
+                    reach[targets[k]] = null;
+                }
+            }
+        }
+
+        return DGraph.fromIndices(g.indexer(), Arrays.copyOf(sources, arcs), Arrays.copyOf(heads, arcs));
+    }
+
+    /**
+     * Runs Kahn's algorithm, returning {@code null} if some vertex is never freed by a cycle.
+     */
+    private static int[] kahn(DGraph<?> g) {
+        Objects.requireNonNull(g, "Directed graph must not be null");
+
+        int n = g.verticesCount();
+        int[] offsets = g.outOffsets();
+        int[] targets = g.outTargets();
+        int[] remaining = new int[n];
+        int[] order = new int[n];
+        int tail = 0;
+
+        for (int i = 0; i < n; i++) {
+            remaining[i] = g.inDegreeAt(i);
+
+            if (remaining[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+
+            for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                if (--remaining[targets[p]] == 0) {
+                    order[tail++] = targets[p];
+                }
+            }
+        }
+
+        return tail == n ? order : null;
+    }
+}
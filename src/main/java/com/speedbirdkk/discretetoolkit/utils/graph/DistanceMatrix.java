@@ -0,0 +1,466 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+import com.speedbirdkk.discretetoolkit.model.graph.UGraph;
+
+/**
+ * The matrix of hop distances between all pairs of vertices of a graph, together with the
+ * eccentricity of every vertex.
+ *
+ * <p>Distances are stored as unsigned {@code short} values, two bytes per pair, with {@code 0xFFFF}
+ * marking an unreachable pair, so graphs of up to 65535 vertices are supported. The rows live
+ * either in {@code short[]} arrays on the heap or in a memory-mapped file for matrices too large
+ * for the heap, see {@link #mapped(IntUGraph, Path)}.
+ *
+ * <p>The matrix is filled by breadth-first searches from 64 sources at once, one bit per source in
+ * a {@code long} per vertex, so a vertex reached by several of the sources at the same level is
+ * expanded once for all of them. Batches of sources run in parallel on the common {@code ForkJoinPool}.
+ * Graphs in which little is shared between sources, such as grids, fall back to one search per source.
+ *
+ * @param <A> the type of vertices
+ *
+ * @author speedbird-kk
+ * @see Traversals#hopDistances(IntUGraph, int)
+ * @since 2025
+ * @version 1.0
+ */
+public final class DistanceMatrix<A> {
+    /**
+     * Distance and eccentricity reported for unreachable vertices.
+     */
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Largest number of vertices, so that every finite distance is below the {@code 0xFFFF} marker.
+     */
+    public static final int MAX_VERTICES = 0xFFFF;
+
+    private static final short NONE = (short) 0xFFFF;
+    private static final int BATCH = Long.SIZE;
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    /**
+     * Average number of sources per vertex expansion below which single-source searches are faster.
+     */
+    private static final int MIN_SHARING = 4;
+
+    private final IntUGraph<A> graph;
+    private final int n;
+
+    /**
+     * Rows on the heap, or null if the matrix is memory-mapped.
+     */
+    private final short[][] rows;
+
+    /**
+     * Consecutive blocks of {@code rowsPerChunk} rows mapped from a file, or null if the matrix is on the heap.
+     */
+    private final ShortBuffer[] chunks;
+    private final int rowsPerChunk;
+
+    private final int[] eccentricities;
+
+    private DistanceMatrix(IntUGraph<A> graph, short[][] rows, ShortBuffer[] chunks, int rowsPerChunk) {
+        this.graph = graph;
+        this.n = graph.verticesCount();
+        this.rows = rows;
+        this.chunks = chunks;
+        this.rowsPerChunk = rowsPerChunk;
+        this.eccentricities = new int[n];
+    }
+
+    /**
+     * Computes the hop distance matrix of {@code g} on the heap, using {@code 2n^2} bytes.
+     * @param <A> the vertex type
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code g} has more than {@link #MAX_VERTICES} vertices
+     * @return the distance matrix of {@code g}
+     */
+    public static <A> DistanceMatrix<A> of(IntUGraph<A> g) {
+        requireSize(g);
+
+        short[][] rows = new short[g.verticesCount()][g.verticesCount()];
+
+        return new DistanceMatrix<>(g, rows, null, 0).fill();
+    }
+
+    /**
+     * Computes the hop distance matrix of {@code g} on the heap.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code g} has more than {@link #MAX_VERTICES} vertices
+     * @return the distance matrix of {@code g}
+     * @see #of(IntUGraph)
+     */
+    public static <A> DistanceMatrix<A> of(UGraph<A> g) {
+        return of(IntUGraph.fromUGraph(g));
+    }
+
+    /**
+     * Computes the hop distance matrix of {@code g} into a memory-mapped file of {@code 2n^2} bytes.
+     *
+     * <p>The file is created or overwritten, and the rows are mapped in blocks of at most 1 GiB, so
+     * the matrix is paged in and out by the operating system instead of occupying the heap. The file
+     * is not deleted afterwards.
+     * @param <A> the vertex type
+     * @param g the compact graph
+     * @param file the file to store the matrix in
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code g} has more than {@link #MAX_VERTICES} vertices
+     * @throws UncheckedIOException if the file cannot be created or mapped
+     * @return the distance matrix of {@code g}
+     */
+    public static <A> DistanceMatrix<A> mapped(IntUGraph<A> g, Path file) {
+        requireSize(g);
+        Objects.requireNonNull(file, "File must not be null");
+
+        int n = g.verticesCount();
+        int rowsPerChunk = Math.max(1, (1 << 29) / Math.max(1, n));
+        int chunkCount = (n + rowsPerChunk - 1) / rowsPerChunk;
+        ShortBuffer[] chunks = new ShortBuffer[chunkCount];
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int c = 0; c < chunkCount; c++) {
+                long firstRow = (long) c * rowsPerChunk;
+                long rowCount = Math.min(rowsPerChunk, n - firstRow);
+
+                chunks[c] = channel
+                    .map(FileChannel.MapMode.READ_WRITE, 2 * firstRow * n, 2 * rowCount * n)
+                    .order(ByteOrder.nativeOrder())
+                    .asShortBuffer();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new DistanceMatrix<>(g, null, chunks, rowsPerChunk).fill();
+    }
+
+    private static void requireSize(IntUGraph<?> g) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+
+        if (g.verticesCount() > MAX_VERTICES) {
+            throw new IllegalArgumentException("Distance matrix supports at most 65535 vertices");
+        }
+    }
+
+    /**
+     * Runs the breadth-first searches for the first batch of sources, then for the remaining sources
+     * in parallel. Searching 64 sources at once only pays off if a vertex is typically expanded for
+     * several of them together, as in graphs of small diameter. If the first batch shows that each
+     * expansion served fewer than {@code MIN_SHARING} sources on average, as in long paths and grids,
+     * the remaining sources are searched one at a time instead. The distances are the same either way.
+     */
+    private DistanceMatrix<A> fill() {
+        if (n == 0) {
+            return this;
+        }
+
+        long[] counts = searchBatch(0, new Scratch(n));
+
+        if (counts[0] >= MIN_SHARING * counts[1]) {
+            int batches = (n + BATCH - 1) / BATCH;
+            inBlocks(1, batches, (s, b) -> searchBatch(b * BATCH, s));
+        } else {
+            inBlocks(BATCH, n, (s, source) -> searchSingle(source, s));
+        }
+
+        return this;
+    }
+
+    /**
+     * Runs {@code search} for every index in {@code from..to-1} in parallel, split into a few blocks
+     * per thread of the common {@code ForkJoinPool}. Block {@code k} takes the indices
+     * {@code from + k, from + k + blocks, ...} with a {@code Scratch} of its own, so the scratch
+     * arrays are released once the matrix is filled rather than held by the pool threads.
+     */
+    private void inBlocks(int from, int to, ObjIntConsumer<Scratch> search) {
+        int blocks = Math.min(to - from, Math.max(1, ForkJoinPool.getCommonPoolParallelism()) * BLOCKS_PER_THREAD);
+
+        IntStream.range(0, Math.max(blocks, 0)).parallel().forEach(k -> {
+            Scratch s = new Scratch(n);
+
+            for (int i = from + k; i < to; i += blocks) {
+                search.accept(s, i);
+            }
+        });
+    }
+
+    /**
+     * Arrays owned by one block of searches, reused by each batch: the sources that have seen each vertex, the sources that
+     * reach it at the current and the next level, and the frontiers of vertices with such sources.
+     * A single-source search uses {@code frontier} as its queue and {@code row} for a mapped row.
+     */
+    private static final class Scratch {
+        private final long[] seen;
+        private final long[] visit;
+        private final long[] visitNext;
+        private final int[] frontier;
+        private final int[] nextFrontier;
+        private final short[] unreached;
+        private final short[] row;
+
+        private Scratch(int n) {
+            this.seen = new long[n];
+            this.visit = new long[n];
+            this.visitNext = new long[n];
+            this.frontier = new int[n];
+            this.nextFrontier = new int[n];
+            this.unreached = new short[n];
+            this.row = new short[n];
+
+            Arrays.fill(unreached, NONE);
+        }
+    }
+
+    /**
+     * Breadth-first search from the sources {@code first..first+63}, with bit {@code b} of each mask
+     * standing for source {@code first + b}. Returns the number of vertices reached over all sources
+     * and the number of vertex expansions.
+     */
+    private long[] searchBatch(int first, Scratch s) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        int sources = Math.min(BATCH, n - first);
+        int[] reachedCount = new int[sources];
+        int[] maxLevel = new int[sources];
+
+        Arrays.fill(s.seen, 0);
+        Arrays.fill(s.visit, 0);
+        Arrays.fill(s.visitNext, 0);
+
+        int[] frontier = s.frontier;
+        int[] nextFrontier = s.nextFrontier;
+        int frontierSize = 0;
+        long expansions = 0;
+
+        for (int b = 0; b < sources; b++) {
+            int source = first + b;
+            writeRow(source, s.unreached);
+            set(source, source, 0);
+
+            s.seen[source] = 1L << b;
+            s.visit[source] = 1L << b;
+            frontier[frontierSize++] = source;
+            reachedCount[b] = 1;
+        }
+
+        for (int level = 1; frontierSize > 0; level++) {
+            int nextSize = 0;
+            expansions += frontierSize;
+
+            for (int k = 0; k < frontierSize; k++) {
+                int v = frontier[k];
+                long bits = s.visit[v];
+                s.visit[v] = 0;
+
+                for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                    int w = targets[p];
+                    long fresh = bits & ~s.seen[w] & ~s.visitNext[w];
+
+                    if (fresh != 0) {
+                        if (s.visitNext[w] == 0) {
+                            nextFrontier[nextSize++] = w;
+                        }
+
+                        s.visitNext[w] |= fresh;
+                    }
+                }
+            }
+
+            for (int k = 0; k < nextSize; k++) {
+                int w = nextFrontier[k];
+                long fresh = s.visitNext[w];
+                s.visitNext[w] = 0;
+                s.seen[w] |= fresh;
+                s.visit[w] = fresh;
+
+                while (fresh != 0) {
+                    int b = Long.numberOfTrailingZeros(fresh);
+                    fresh &= fresh - 1;
+
+                    set(first + b, w, level);
+                    reachedCount[b]++;
+                    maxLevel[b] = level;
+                }
+            }
+
+            int[] swap = frontier;
+            frontier = nextFrontier;
+            nextFrontier = swap;
+            frontierSize = nextSize;
+        }
+
+        long reached = 0;
+
+        for (int b = 0; b < sources; b++) {
+            eccentricities[first + b] = reachedCount[b] == n ? maxLevel[b] : UNREACHABLE;
+            reached += reachedCount[b];
+        }
+
+        return new long[] {reached, expansions};
+    }
+
+    /**
+     * Breadth-first search from a single source, writing its row in order.
+     */
+    private void searchSingle(int source, Scratch s) {
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        short[] row = rows != null ? rows[source] : s.row;
+        int[] queue = s.frontier;
+
+        System.arraycopy(s.unreached, 0, row, 0, n);
+        row[source] = 0;
+        queue[0] = source;
+
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            int v = queue[head++];
+            short next = (short) (row[v] + 1);
+
+            for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                int w = targets[p];
+
+                if (row[w] == NONE) {
+                    row[w] = next;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        eccentricities[source] = tail == n ? Short.toUnsignedInt(row[queue[tail - 1]]) : UNREACHABLE;
+
+        if (rows == null) {
+            writeRow(source, row);
+        }
+    }
+
+    private void writeRow(int i, short[] values) {
+        if (rows != null) {
+            System.arraycopy(values, 0, rows[i], 0, n);
+        } else {
+            chunks[i / rowsPerChunk].put((i % rowsPerChunk) * n, values, 0, n);
+        }
+    }
+
+    private void set(int i, int j, int distance) {
+        if (rows != null) {
+            rows[i][j] = (short) distance;
+        } else {
+            chunks[i / rowsPerChunk].put((i % rowsPerChunk) * n + j, (short) distance);
+        }
+    }
+
+    /**
+     * Returns the number of vertices, which is the number of rows and of columns.
+     * @return the number of vertices
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Returns {@code true} if the matrix is stored in a memory-mapped file.
+     * @return {@code true} if the matrix is memory-mapped
+     */
+    public boolean isMapped() {
+        return rows == null;
+    }
+
+    /**
+     * Returns the compact graph whose vertex indices number the rows and columns of the matrix.
+     * @return the compact graph
+     */
+    public IntUGraph<A> graph() {
+        return graph;
+    }
+
+    /**
+     * Returns the hop distance between the vertices with indices {@code i} and {@code j}.
+     * @param i the index of the first vertex
+     * @param j the index of the second vertex
+     * @throws IndexOutOfBoundsException if {@code i} or {@code j} is not a valid vertex index
+     * @return the number of edges on a shortest path, or {@link #UNREACHABLE}
+     */
+    public int distanceAt(int i, int j) {
+        Objects.checkIndex(i, n);
+        Objects.checkIndex(j, n);
+
+        short d = rows != null ? rows[i][j] : chunks[i / rowsPerChunk].get((i % rowsPerChunk) * n + j);
+
+        return d == NONE ? UNREACHABLE : Short.toUnsignedInt(d);
+    }
+
+    /**
+     * Returns the hop distance between vertex {@code u} and vertex {@code v}.
+     * @param u the first vertex
+     * @param v the second vertex
+     * @throws IllegalArgumentException if {@code u} or {@code v} is not contained in the set of vertices
+     * @return the number of edges on a shortest path, or {@link #UNREACHABLE}
+     */
+    public int distance(A u, A v) {
+        return distanceAt(graph.indexOf(u), graph.indexOf(v));
+    }
+
+    /**
+     * Returns the eccentricity of the vertex with index {@code i}, the largest distance from it to
+     * any vertex.
+     * @param i the vertex index
+     * @throws IndexOutOfBoundsException if {@code i} is not a valid vertex index
+     * @return the eccentricity, or {@link #UNREACHABLE} if some vertex cannot be reached from it
+     */
+    public int eccentricityAt(int i) {
+        return eccentricities[Objects.checkIndex(i, n)];
+    }
+
+    /**
+     * Returns the eccentricity of vertex {@code v}.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the eccentricity, or {@link #UNREACHABLE} if the graph is disconnected
+     * @see #eccentricityAt(int)
+     */
+    public int eccentricity(A v) {
+        return eccentricities[graph.indexOf(v)];
+    }
+
+    /**
+     * Returns the diameter of the graph, the largest eccentricity of its vertices.
+     * @return the diameter, {@code 0} for the empty graph, or {@link #UNREACHABLE} if the graph is disconnected
+     */
+    public int diameter() {
+        return Arrays.stream(eccentricities).reduce(0, (a, b) -> a < 0 || b < 0 ? UNREACHABLE : Math.max(a, b));
+    }
+
+    /**
+     * Returns the radius of the graph, the smallest eccentricity of its vertices.
+     * @return the radius, {@code 0} for the empty graph, or {@link #UNREACHABLE} if the graph is disconnected
+     */
+    public int radius() {
+        if (n == 0) {
+            return 0;
+        }
+
+        return eccentricities[0] < 0 ? UNREACHABLE : Arrays.stream(eccentricities).min().getAsInt();
+    }
+}
@@ -0,0 +1,192 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+import com.speedbirdkk.discretetoolkit.model.graph.UEdge;
+import com.speedbirdkk.discretetoolkit.utils.Validate;
+
+public final class Generators {
+    private Generators() {}
+
+    /**
+     * Returns a lazy stream of the edges of the complete graph on a list of vertices.
+     *
+     * <p>The edges {vertices.get(i), vertices.get(j)} for {@code i < j} are created one at a time as
+     * the stream is consumed, in increasing order of {@code i} and then {@code j}. The stream splits
+     * on {@code i}, so it can be consumed in parallel.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices
+     * @throws NullPointerException if {@code vertices} is null
+     * @throws IllegalArgumentException if {@code vertices} contains duplicate elements
+     * @return the stream of the {@code n(n-1)/2} edges of the complete graph
+     * @see IntUGraph#complete(List)
+     */
+    public static <A> Stream<UEdge<A>> completeEdges(List<A> vertices) {
+        List<A> copy = requireDistinct(vertices);
+        int n = copy.size();
+
+        return IntStream.range(0, n)
+            .boxed()
+            .flatMap(i -> IntStream.range(i + 1, n).mapToObj(j -> new UEdge<>(copy.get(i), copy.get(j))));
+    }
+
+    /**
+     * Returns a lazy stream of the edges of the complete bipartite graph between two lists of vertices.
+     * @param <A> the vertex type
+     * @param left the first side of the bipartition
+     * @param right the second side of the bipartition
+     * @throws NullPointerException if {@code left} or {@code right} is null
+     * @throws IllegalArgumentException if either list contains duplicate elements or if the lists
+     * have an element in common
+     * @return the stream of the {@code |left| * |right|} edges of the complete bipartite graph
+     * @see IntUGraph#completeBipartite(List, List)
+     */
+    public static <A> Stream<UEdge<A>> completeBipartiteEdges(List<A> left, List<A> right) {
+        List<A> l = requireDistinct(left);
+        List<A> r = requireDistinct(right);
+
+        // Hash the smaller side, so the check is O(|left| + |right|) rather than a linear contains per element.
+        Set<A> smaller = new HashSet<>(l.size() <= r.size() ? l : r);
+        List<A> larger = l.size() <= r.size() ? r : l;
+
+        if (larger.stream().anyMatch(smaller::contains)) {
+            throw new IllegalArgumentException("Sides of a bipartition must not have an element in common");
+        }
+
+        return l.stream().flatMap(u -> r.stream().map(v -> new UEdge<>(u, v)));
+    }
+
+    /**
+     * Returns a lazy stream of the edges of the star graph on a list of vertices.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices
+     * @param centre the centre vertex
+     * @throws NullPointerException if {@code vertices} or {@code centre} is null
+     * @throws IllegalArgumentException if {@code vertices} contains duplicate elements or does not
+     * contain {@code centre}
+     * @return the stream of the edges between {@code centre} and every other vertex
+     * @see IntUGraph#star(List, Object)
+     */
+    public static <A> Stream<UEdge<A>> starEdges(List<A> vertices, A centre) {
+        List<A> copy = requireDistinct(vertices);
+        Objects.requireNonNull(centre, "Centre vertex must not be null");
+
+        if (!copy.contains(centre)) {
+            throw new IllegalArgumentException("Centre vertex must be contained in the set of vertices");
+        }
+
+        return copy.stream()
+            .filter(v -> !v.equals(centre))
+            .map(v -> new UEdge<>(centre, v));
+    }
+
+    /**
+     * Returns a lazy stream of the edges of the path graph through a list of vertices.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices
+     * @throws NullPointerException if {@code vertices} is null
+     * @throws IllegalArgumentException if {@code vertices} contains duplicate elements
+     * @return the stream of the edges between each two consecutive vertices
+     * @see IntUGraph#path(List)
+     */
+    public static <A> Stream<UEdge<A>> pathEdges(List<A> vertices) {
+        List<A> copy = requireDistinct(vertices);
+
+        return IntStream.range(0, Math.max(0, copy.size() - 1))
+            .mapToObj(i -> new UEdge<>(copy.get(i), copy.get(i + 1)));
+    }
+
+    /**
+     * Returns a lazy stream of the edges of the cycle graph through a list of vertices.
+     * @param <A> the vertex type
+     * @param vertices the list of vertices
+     * @throws NullPointerException if {@code vertices} is null
+     * @throws IllegalArgumentException if {@code vertices} has less than 3 elements or contains
+     * duplicate elements
+     * @return the stream of the edges between each two consecutive vertices and between the last
+     * vertex and the first
+     * @see IntUGraph#cycle(List)
+     */
+    public static <A> Stream<UEdge<A>> cycleEdges(List<A> vertices) {
+        List<A> copy = requireDistinct(vertices);
+        int n = copy.size();
+
+        if (n < 3) {
+            throw new IllegalArgumentException("List of vertices in a cycle must contain at least 3 elements");
+        }
+
+        return IntStream.range(0, n)
+            .mapToObj(i -> new UEdge<>(copy.get(i), copy.get((i + 1) % n)));
+    }
+
+    /**
+     * Returns a lazy stream of the edges of the grid graph with {@code rows} rows and {@code columns}
+     * columns, where the vertex in row {@code r} and column {@code c} is {@code r * columns + c}.
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @throws IllegalArgumentException if {@code rows} or {@code columns} is negative, or if the grid
+     * has more vertices than fit in an {@code int}
+     * @return the stream of the edges of the grid graph
+     * @see IntUGraph#grid(int, int)
+     */
+    public static Stream<UEdge<Integer>> gridEdges(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Number of rows and columns must not be negative");
+        }
+
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid has too many vertices");
+        }
+
+        return IntStream.range(0, rows * columns)
+            .boxed()
+            .flatMap(i -> {
+                Stream<UEdge<Integer>> right = i % columns < columns - 1
+                    ? Stream.of(new UEdge<>(i, i + 1))
+                    : Stream.empty();
+                Stream<UEdge<Integer>> down = i / columns < rows - 1
+                    ? Stream.of(new UEdge<>(i, i + columns))
+                    : Stream.empty();
+
+                return Stream.concat(right, down);
+            });
+    }
+
+    /**
+     * Returns a lazy stream of the edges of the hypercube graph of the given dimension, where two of
+     * the vertices {@code 0..2^dimension - 1} are adjacent if they differ in exactly one bit.
+     * @param dimension the dimension of the hypercube
+     * @throws IllegalArgumentException if {@code dimension} is negative or greater than 30
+     * @return the stream of the {@code dimension * 2^(dimension-1)} edges of the hypercube
+     * @see IntUGraph#hypercube(int)
+     */
+    public static Stream<UEdge<Integer>> hypercubeEdges(int dimension) {
+        if (dimension < 0 || dimension > 30) {
+            throw new IllegalArgumentException("Dimension of a hypercube must be between 0 and 30");
+        }
+
+        return IntStream.range(0, 1 << dimension)
+            .boxed()
+            .flatMap(i -> IntStream.range(0, dimension)
+                .filter(k -> (i & (1 << k)) == 0)
+                .mapToObj(k -> new UEdge<>(i, i | (1 << k))));
+    }
+
+    private static <A> List<A> requireDistinct(List<A> vertices) {
+        Objects.requireNonNull(vertices, "List of vertices must not be null");
+
+        List<A> copy = List.copyOf(vertices);
+
+        if (!Validate.noDuplicatesInList(copy)) {
+            throw new IllegalArgumentException("List of vertices must not contain duplicate elements");
+        }
+
+        return copy;
+    }
+}
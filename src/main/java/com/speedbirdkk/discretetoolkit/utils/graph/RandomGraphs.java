@@ -0,0 +1,386 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.speedbirdkk.discretetoolkit.model.collections.LongHashSet;
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+
+public final class RandomGraphs {
+    /**
+     * Number of candidate pairs covered by one block of rows in {@link #gnp(int, double, long)}.
+     * Blocks depend only on {@code n}, never on the number of threads.
+     */
+    private static final long GNP_BLOCK_PAIRS = 1L << 22;
+
+    /**
+     * Bound on a single geometric skip, large enough to run past any block of rows without
+     * overflowing when {@code p} is tiny.
+     */
+    private static final double MAX_SKIP = 0x1p62;
+
+    /**
+     * Number of failed attempts per remaining point after which {@link #randomRegular(int, int, long)}
+     * restarts the pairing.
+     */
+    private static final int REGULAR_MAX_ATTEMPTS = 100;
+
+    private RandomGraphs() {}
+
+    /**
+     * Returns a random graph in the Erdős–Rényi model G(n, p), in which each of the {@code n(n-1)/2}
+     * possible edges is present independently with probability {@code p}.
+     *
+     * <p>Instead of drawing one random number per pair, the gap to the next present edge is drawn
+     * from the geometric distribution, so the graph is generated in O(n + m) for {@code m} edges.
+     * The rows are split into blocks of a fixed number of pairs, and each block draws from its own
+     * generator split from {@code seed}, so the result is the same as {@link #parallelGnp(int, double, long)}.
+     * The vertices are the integers {@code 0..n-1}; use {@link IntUGraph#toUGraph()} for a {@code UGraph}.
+     * @param n the number of vertices
+     * @param p the probability of each edge
+     * @param seed the seed of the random generator
+     * @throws IllegalArgumentException if {@code n} is negative or {@code p} is not between 0 and 1
+     * @return the random graph
+     */
+    public static IntUGraph<Integer> gnp(int n, double p, long seed) {
+        return gnp(n, p, seed, false);
+    }
+
+    /**
+     * Returns the same graph as {@link #gnp(int, double, long)}, generating the blocks of rows in
+     * parallel on the common {@code ForkJoinPool}.
+     * @param n the number of vertices
+     * @param p the probability of each edge
+     * @param seed the seed of the random generator
+     * @throws IllegalArgumentException if {@code n} is negative or {@code p} is not between 0 and 1
+     * @return the random graph
+     */
+    public static IntUGraph<Integer> parallelGnp(int n, double p, long seed) {
+        return gnp(n, p, seed, true);
+    }
+
+    private static IntUGraph<Integer> gnp(int n, double p, long seed, boolean parallel) {
+        requireVertices(n);
+
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Probability must be between 0 and 1");
+        }
+
+        if (p == 0 || n < 2) {
+            return IntUGraph.fromEdgeKeys(integers(n), new long[0]);
+        }
+
+        int[] starts = gnpBlocks(n);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[starts.length - 1];
+
+        for (int b = 0; b < randoms.length; b++) {
+            randoms[b] = root.split();
+        }
+
+        double logQ = Math.log1p(-p);
+        IntStream blocks = IntStream.range(0, randoms.length);
+
+        long[][] keys = (parallel ? blocks.parallel() : blocks)
+            .mapToObj(b -> gnpBlock(starts[b], starts[b + 1], logQ, randoms[b]))
+            .toArray(long[][]::new);
+
+        return IntUGraph.fromEdgeKeys(integers(n), concat(keys));
+    }
+
+    /**
+     * Returns the first row of every block of {@link #gnp(int, double, long)}, followed by {@code n}.
+     * Row {@code v} holds the {@code v} candidate pairs {@code {w, v}} with {@code w < v}.
+     */
+    private static int[] gnpBlocks(int n) {
+        List<Integer> starts = new ArrayList<>();
+        long pairs = 0;
+        starts.add(1);
+
+        for (int v = 1; v < n; v++) {
+            if (pairs >= GNP_BLOCK_PAIRS) {
+                starts.add(v);
+                pairs = 0;
+            }
+
+            pairs += v;
+        }
+
+        starts.add(n);
+
+        return starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Generates the edges of G(n, p) in rows {@code from..to-1} by geometric skipping, in the
+     * manner of Batagelj and Brandes.
+     */
+    private static long[] gnpBlock(int from, int to, double logQ, SplittableRandom random) {
+        LongStream.Builder keys = LongStream.builder();
+        int v = from;
+        long w = -1;
+
+        while (v < to) {
+            double skip = Math.floor(Math.log1p(-random.nextDouble()) / logQ);
+            w += 1 + (long) Math.min(skip, MAX_SKIP);
+
+            while (w >= v && v < to) {
+                w -= v;
+                v++;
+            }
+
+            if (v < to) {
+                keys.add(IntUGraph.edgeKey((int) w, v));
+            }
+        }
+
+        return keys.build().toArray();
+    }
+
+    /**
+     * Returns a random graph in the Erdős–Rényi model G(n, m), chosen uniformly among the graphs on
+     * {@code n} vertices with exactly {@code m} edges.
+     *
+     * <p>Edges are drawn as uniform pairs of distinct vertices and rejected if already present, which
+     * costs O(m) expected time while {@code m} is at most half of the possible edges. Denser graphs
+     * are generated as the complement of a sparse one.
+     * @param n the number of vertices
+     * @param m the number of edges
+     * @param seed the seed of the random generator
+     * @throws IllegalArgumentException if {@code n} is negative, or {@code m} is negative or greater
+     * than {@code n(n-1)/2}
+     * @return the random graph
+     */
+    public static IntUGraph<Integer> gnm(int n, long m, long seed) {
+        requireVertices(n);
+
+        long total = (long) n * (n - 1) / 2;
+
+        if (m < 0 || m > total) {
+            throw new IllegalArgumentException("Number of edges must be between 0 and n(n-1)/2");
+        }
+
+        if (m > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Graph has too many edges for a compact representation");
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        boolean complement = m > total / 2;
+        long drawn = complement ? total - m : m;
+        LongHashSet keys = new LongHashSet((int) drawn);
+
+        while (keys.size() < drawn) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+
+            if (u != v) {
+                keys.add(IntUGraph.edgeKey(u, v));
+            }
+        }
+
+        if (!complement) {
+            return IntUGraph.fromEdgeKeys(integers(n), keys.toArray());
+        }
+
+        long[] out = new long[(int) m];
+        int k = 0;
+
+        for (int u = 0; u < n; u++) {
+            for (int v = u + 1; v < n; v++) {
+                long key = IntUGraph.edgeKey(u, v);
+
+                if (!keys.contains(key)) {
+                    out[k++] = key;
+                }
+            }
+        }
+
+        return IntUGraph.fromEdgeKeys(integers(n), out);
+    }
+
+    /**
+     * Returns a random graph in the Barabási–Albert preferential attachment model.
+     *
+     * <p>The graph starts as the complete graph on the first {@code m + 1} vertices, and each
+     * following vertex is joined to {@code m} distinct earlier vertices chosen with probability
+     * proportional to their degree. Every endpoint of every edge is kept in one array, so a
+     * vertex is chosen by degree simply by picking a uniform entry of it, and the graph is generated
+     * in O(n m) expected time.
+     * @param n the number of vertices
+     * @param m the number of edges added with each new vertex
+     * @param seed the seed of the random generator
+     * @throws IllegalArgumentException if {@code m} is less than 1 or not less than {@code n}
+     * @return the random graph
+     */
+    public static IntUGraph<Integer> barabasiAlbert(int n, int m, long seed) {
+        requireVertices(n);
+
+        if (m < 1 || m >= n) {
+            throw new IllegalArgumentException("Number of edges per vertex must be between 1 and n - 1");
+        }
+
+        long edges = (long) m * (m + 1) / 2 + (long) (n - m - 1) * m;
+
+        if (edges > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Graph has too many edges for a compact representation");
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] keys = new long[(int) edges];
+        int[] endpoints = new int[2 * (int) edges];
+        int[] chosen = new int[m];
+        int k = 0;
+        int e = 0;
+
+        for (int u = 0; u <= m; u++) {
+            for (int v = u + 1; v <= m; v++) {
+                keys[k++] = IntUGraph.edgeKey(u, v);
+                endpoints[e++] = u;
+                endpoints[e++] = v;
+            }
+        }
+
+        for (int v = m + 1; v < n; v++) {
+            int count = 0;
+
+            while (count < m) {
+                int target = endpoints[random.nextInt(e)];
+                boolean fresh = true;
+
+                for (int c = 0; c < count && fresh; c++) {
+                    fresh = chosen[c] != target;
+                }
+
+                if (fresh) {
+                    chosen[count++] = target;
+                }
+            }
+
+            for (int c = 0; c < m; c++) {
+                keys[k++] = IntUGraph.edgeKey(chosen[c], v);
+                endpoints[e++] = chosen[c];
+                endpoints[e++] = v;
+            }
+        }
+
+        return IntUGraph.fromEdgeKeys(integers(n), keys);
+    }
+
+    /**
+     * Returns a random {@code d}-regular graph on {@code n} vertices.
+     *
+     * <p>Each vertex is given {@code d} points, and pairs of points are drawn uniformly from the
+     * points not yet paired and joined if they make neither a self-loop nor a repeated edge, as in
+     * the algorithm of Steger and Wormald. If the pairing gets stuck it starts again, which happens
+     * rarely while {@code d} is small compared with {@code n}. The result is asymptotically uniform
+     * for such {@code d}.
+     * @param n the number of vertices
+     * @param d the degree of every vertex
+     * @param seed the seed of the random generator
+     * @throws IllegalArgumentException if {@code d} is negative or not less than {@code n}, or if
+     * {@code n * d} is odd
+     * @return the random regular graph
+     */
+    public static IntUGraph<Integer> randomRegular(int n, int d, long seed) {
+        requireVertices(n);
+
+        if (d < 0 || (d >= n && n > 0)) {
+            throw new IllegalArgumentException("Degree must be between 0 and n - 1");
+        }
+
+        if (((long) n * d) % 2 != 0) {
+            throw new IllegalArgumentException("Number of vertices times degree must be even");
+        }
+
+        if ((long) n * d > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph has too many edges for a compact representation");
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] points = new int[n * d];
+
+        while (true) {
+            for (int i = 0; i < points.length; i++) {
+                points[i] = i / d;
+            }
+
+            LongHashSet keys = pairPoints(points, random);
+
+            if (keys != null) {
+                return IntUGraph.fromEdgeKeys(integers(n), keys.toArray());
+            }
+        }
+    }
+
+    /**
+     * Pairs up {@code points} at random without self-loops or repeated edges, or returns
+     * {@code null} if too many consecutive draws fail.
+     */
+    private static LongHashSet pairPoints(int[] points, SplittableRandom random) {
+        LongHashSet keys = new LongHashSet(points.length / 2);
+        int remaining = points.length;
+        int failures = 0;
+
+        while (remaining > 0) {
+            int i = random.nextInt(remaining);
+            int j = random.nextInt(remaining);
+            int u = points[i];
+            int v = points[j];
+
+            if (u == v || keys.contains(IntUGraph.edgeKey(u, v))) {
+                if (++failures > REGULAR_MAX_ATTEMPTS * remaining) {
+                    return null;
+                }
+
+                continue;
+            }
+
+            keys.add(IntUGraph.edgeKey(u, v));
+            failures = 0;
+
+            int high = Math.max(i, j);
+            int low = Math.min(i, j);
+            points[high] = points[--remaining];
+            points[low] = points[--remaining];
+        }
+
+        return keys;
+    }
+
+    private static void requireVertices(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of vertices must not be negative");
+        }
+    }
+
+    private static List<Integer> integers(int n) {
+        List<Integer> out = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            out.add(i);
+        }
+
+        return out;
+    }
+
+    private static long[] concat(long[][] parts) {
+        int length = 0;
+
+        for (long[] part : parts) {
+            length = Math.addExact(length, part.length);
+        }
+
+        long[] out = new long[length];
+        int k = 0;
+
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, out, k, part.length);
+            k += part.length;
+        }
+
+        return out;
+    }
+}
@@ -0,0 +1,376 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
+import com.speedbirdkk.discretetoolkit.model.graph.DGraph;
+
+/**
+ * The transitive closure of a directed graph, kept as a queryable index instead of a set of pairs.
+ *
+ * <p>The strongly connected components are collapsed first, since every vertex of a component reaches
+ * exactly what the others do. The components are numbered by {@link DGraphs#componentsOf(DGraph)},
+ * which is a post-order of a depth-first search over the condensation, so every arc goes from a larger
+ * number to a smaller one and the components below a component in the search tree have consecutive
+ * numbers. The set of components reachable from each component is then stored as a sorted list of
+ * disjoint intervals of component numbers, built from the lists of its successors in increasing order
+ * of component number, in the manner of Purdom's and Nuutila's algorithms. Thanks to the post-order
+ * numbering, most reachable sets collapse to a handful of intervals.
+ *
+ * <p>A query {@link #reachesAt(int, int)} is a binary search in one interval list, and the closure
+ * can be streamed with {@link #pairs()} without materialising it.
+ *
+ * @param <A> the type of vertices
+ *
+ * @author speedbird-kk
+ * @see DGraphs#condensation(DGraph)
+ * @since 2025
+ * @version 1.0
+ */
+public final class ReachabilityIndex<A> {
+    private final DGraph<A> graph;
+    private final int[] components;
+
+    /**
+     * Vertex indices grouped by component, the members of component {@code c} being
+     * {@code members[memberOffsets[c]]..members[memberOffsets[c + 1] - 1]}.
+     */
+    private final int[] memberOffsets;
+    private final int[] members;
+
+    /**
+     * Whether each component lies on a cycle, that is whether its vertices reach themselves.
+     */
+    private final boolean[] cyclic;
+
+    /**
+     * Intervals of reachable component numbers of component {@code c}, at positions
+     * {@code intervalOffsets[c]..intervalOffsets[c + 1] - 1}, sorted and neither overlapping nor
+     * adjacent. Each list includes {@code c} itself.
+     */
+    private final int[] intervalOffsets;
+    private final int[] intervalStarts;
+    private final int[] intervalEnds;
+
+    private ReachabilityIndex(DGraph<A> graph) {
+        this.graph = graph;
+        this.components = DGraphs.componentsOf(graph);
+
+        int n = graph.verticesCount();
+        int k = 0;
+
+        for (int c : components) {
+            k = Math.max(k, c + 1);
+        }
+
+        this.memberOffsets = new int[k + 1];
+        this.members = new int[n];
+        this.cyclic = new boolean[k];
+
+        for (int c : components) {
+            memberOffsets[c + 1]++;
+        }
+
+        for (int c = 0; c < k; c++) {
+            memberOffsets[c + 1] += memberOffsets[c];
+            cyclic[c] = memberOffsets[c + 1] - memberOffsets[c] > 1;
+        }
+
+        int[] fill = Arrays.copyOf(memberOffsets, k);
+
+        for (int i = 0; i < n; i++) {
+            members[fill[components[i]]++] = i;
+            cyclic[components[i]] |= graph.hasArcAt(i, i);
+        }
+
+        DGraph<Integer> dag = DGraphs.condensation(graph, components);
+        int[] dagOffsets = dag.outOffsets();
+        int[] dagTargets = dag.outTargets();
+
+        this.intervalOffsets = new int[k + 1];
+        int[] starts = new int[Math.max(16, k)];
+        int[] ends = new int[starts.length];
+        long[] scratch = new long[16];
+        int size = 0;
+
+        // Successors have smaller numbers, so their lists are complete by the time c is reached.
+        for (int c = 0; c < k; c++) {
+            int count = 0;
+            scratch[count++] = pack(c, c);
+
+            for (int p = dagOffsets[c]; p < dagOffsets[c + 1]; p++) {
+                int d = dagTargets[p];
+                int length = intervalOffsets[d + 1] - intervalOffsets[d];
+
+                if (count + length > scratch.length) {
+                    scratch = Arrays.copyOf(scratch, Math.max(2 * scratch.length, count + length));
+                }
+
+                for (int q = intervalOffsets[d]; q < intervalOffsets[d + 1]; q++) {
+                    scratch[count++] = pack(starts[q], ends[q]);
+                }
+            }
+
+            Arrays.sort(scratch, 0, count);
+
+            int start = (int) (scratch[0] >>> 32);
+            int end = (int) scratch[0];
+
+            for (int q = 1; q <= count; q++) {
+                int nextStart = q < count ? (int) (scratch[q] >>> 32) : Integer.MAX_VALUE;
+
+                if (q < count && nextStart <= end + 1) {
+                    end = Math.max(end, (int) scratch[q]);
+                    continue;
+                }
+
+                if (size == starts.length) {
+                    starts = Arrays.copyOf(starts, 2 * size);
+                    ends = Arrays.copyOf(ends, 2 * size);
+                }
+
+                starts[size] = start;
+                ends[size] = end;
+                size++;
+
+                if (q < count) {
+                    start = nextStart;
+                    end = (int) scratch[q];
+                }
+            }
+
+            intervalOffsets[c + 1] = size;
+        }
+
+        this.intervalStarts = Arrays.copyOf(starts, size);
+        this.intervalEnds = Arrays.copyOf(ends, size);
+    }
+
+    private static long pack(int start, int end) {
+        return (long) start << 32 | end;
+    }
+
+    /**
+     * Builds the reachability index of {@code g} in O(|V| + |E| + I log I) time, where {@code I} is
+     * the total length of the interval lists of the successors of each component.
+     * @param <A> the vertex type
+     * @param g the directed graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the reachability index of {@code g}
+     */
+    public static <A> ReachabilityIndex<A> of(DGraph<A> g) {
+        Objects.requireNonNull(g, "Directed graph must not be null");
+
+        return new ReachabilityIndex<>(g);
+    }
+
+    /**
+     * Builds the reachability index of the relation with the given domain and relation set. Pairs
+     * with an element outside {@code domain} are ignored.
+     * @param <A> the element type
+     * @param domain the set of elements
+     * @param relationSet the set of pairs
+     * @throws NullPointerException if any argument is null
+     * @return the reachability index of the relation
+     * @see #of(DGraph)
+     */
+    public static <A> ReachabilityIndex<A> of(Set<A> domain, Set<Pair<A, A>> relationSet) {
+        Objects.requireNonNull(domain, "Domain must not be null");
+
+        return of(Indexer.of(domain), relationSet);
+    }
+
+    /**
+     * Builds the reachability index of the relation on the elements of {@code domain}, sharing the
+     * indexer with the underlying graph. Pairs with an element outside {@code domain} are ignored.
+     * @param <A> the element type
+     * @param domain the indexer of the elements
+     * @param relationSet the set of pairs
+     * @throws NullPointerException if any argument is null
+     * @return the reachability index of the relation
+     * @see #of(DGraph)
+     */
+    public static <A> ReachabilityIndex<A> of(Indexer<A> domain, Set<Pair<A, A>> relationSet) {
+        Objects.requireNonNull(domain, "Indexer of elements must not be null");
+        Objects.requireNonNull(relationSet, "Relation set must not be null");
+
+        int[] sources = new int[relationSet.size()];
+        int[] targets = new int[relationSet.size()];
+        int arcs = 0;
+
+        for (Pair<A, A> pair : relationSet) {
+            int i = domain.indexOf(pair.a());
+            int j = domain.indexOf(pair.b());
+
+            if (i >= 0 && j >= 0) {
+                sources[arcs] = i;
+                targets[arcs] = j;
+                arcs++;
+            }
+        }
+
+        return of(DGraph.fromIndices(domain, Arrays.copyOf(sources, arcs), Arrays.copyOf(targets, arcs)));
+    }
+
+    /**
+     * Returns {@code true} if there is a path of at least one arc from the vertex with index {@code i}
+     * to the vertex with index {@code j}, that is if (i, j) is in the transitive closure. A vertex only
+     * reaches itself if it lies on a cycle.
+     * @param i the index of the first vertex
+     * @param j the index of the last vertex
+     * @throws IllegalArgumentException if {@code i} or {@code j} is not a valid vertex index
+     * @return {@code true} if {@code i} reaches {@code j}
+     */
+    public boolean reachesAt(int i, int j) {
+        requireIndex(i);
+        requireIndex(j);
+
+        int c = components[i];
+        int d = components[j];
+
+        return c == d ? cyclic[c] : containsComponent(c, d);
+    }
+
+    /**
+     * Returns {@code true} if there is a path of at least one arc from vertex {@code u} to vertex {@code v}.
+     * @param u the first vertex
+     * @param v the last vertex
+     * @throws IllegalArgumentException if {@code u} or {@code v} is not contained in the set of vertices
+     * @return {@code true} if {@code u} reaches {@code v}
+     * @see #reachesAt(int, int)
+     */
+    public boolean reaches(A u, A v) {
+        return reachesAt(graph.indexOf(u), graph.indexOf(v));
+    }
+
+    /**
+     * Returns the indices of the vertices reachable from the vertex with index {@code i} by a path of
+     * at least one arc, grouped by component.
+     * @param i the vertex index
+     * @throws IllegalArgumentException if {@code i} is not a valid vertex index
+     * @return the stream of reachable vertex indices
+     */
+    public IntStream reachableAt(int i) {
+        requireIndex(i);
+
+        int c = components[i];
+
+        return IntStream.range(intervalOffsets[c], intervalOffsets[c + 1])
+            .flatMap(q -> IntStream.range(memberOffsets[intervalStarts[q]], memberOffsets[intervalEnds[q] + 1]))
+            .filter(p -> cyclic[c] || components[members[p]] != c)
+            .map(p -> members[p]);
+    }
+
+    /**
+     * Returns the set of vertices reachable from vertex {@code v} by a path of at least one arc.
+     * @param v the vertex
+     * @throws IllegalArgumentException if {@code v} is not contained in the set of vertices
+     * @return the set of vertices reachable from {@code v}
+     */
+    public Set<A> reachable(A v) {
+        Set<A> out = new HashSet<>();
+
+        reachableAt(graph.indexOf(v)).forEach(j -> out.add(graph.label(j)));
+
+        return Collections.unmodifiableSet(out);
+    }
+
+    /**
+     * Returns the pairs of the transitive closure, produced lazily one source vertex at a time.
+     * @return the stream of pairs (u, v) such that {@code u} reaches {@code v}
+     */
+    public Stream<Pair<A, A>> pairs() {
+        return IntStream.range(0, graph.verticesCount())
+            .boxed()
+            .flatMap(i -> reachableAt(i).mapToObj(j -> new Pair<>(graph.label(i), graph.label(j))));
+    }
+
+    /**
+     * Returns the number of pairs in the transitive closure, counted from the interval lists without
+     * enumerating the pairs.
+     * @return the size of the transitive closure
+     */
+    public long pairsCount() {
+        long total = 0;
+
+        for (int c = 0; c + 1 < intervalOffsets.length; c++) {
+            long reachable = cyclic[c] ? 0 : -(memberOffsets[c + 1] - memberOffsets[c]);
+
+            for (int q = intervalOffsets[c]; q < intervalOffsets[c + 1]; q++) {
+                reachable += memberOffsets[intervalEnds[q] + 1] - memberOffsets[intervalStarts[q]];
+            }
+
+            total += reachable * (memberOffsets[c + 1] - memberOffsets[c]);
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the component number of the vertex with index {@code i}, as in
+     * {@link DGraphs#componentsOf(DGraph)}.
+     * @param i the vertex index
+     * @throws IllegalArgumentException if {@code i} is not a valid vertex index
+     * @return the component number of the vertex
+     */
+    public int componentAt(int i) {
+        requireIndex(i);
+
+        return components[i];
+    }
+
+    /**
+     * Returns the number of strongly connected components.
+     * @return the number of strongly connected components
+     */
+    public int componentsCount() {
+        return cyclic.length;
+    }
+
+    /**
+     * Returns the total number of intervals stored, a measure of the size of the index.
+     * @return the number of intervals in all lists
+     */
+    public int intervalsCount() {
+        return intervalStarts.length;
+    }
+
+    /**
+     * Returns the graph this index was built from.
+     * @return the directed graph
+     */
+    public DGraph<A> graph() {
+        return graph;
+    }
+
+    private boolean containsComponent(int c, int d) {
+        int lo = intervalOffsets[c];
+        int hi = intervalOffsets[c + 1] - 1;
+
+        // Find the last interval starting at or before d.
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (intervalStarts[mid] <= d) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        return hi >= intervalOffsets[c] && intervalEnds[hi] >= d;
+    }
+
+    private void requireIndex(int i) {
+        if (i < 0 || i >= components.length) {
+            throw new IllegalArgumentException("Vertex index must be between 0 and the number of vertices");
+        }
+    }
+}
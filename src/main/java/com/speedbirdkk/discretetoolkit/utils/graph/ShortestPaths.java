@@ -0,0 +1,334 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+
+import com.speedbirdkk.discretetoolkit.model.collections.IndexedMinHeap;
+import com.speedbirdkk.discretetoolkit.model.graph.WUGraph;
+
+/**
+ * A shortest path engine for one weighted graph, answering Dijkstra, bidirectional Dijkstra and
+ * A* queries between vertices given by index.
+ *
+ * <p>Distances, parents and the two indexed heaps are allocated once per engine. Each query bumps
+ * a stamp instead of clearing the arrays, so a distance is only valid if its vertex was reached
+ * under the current stamp, and a query allocates nothing apart from the optional path returned
+ * by {@link #lastPath()}. An engine is therefore not thread-safe; use one engine per thread.
+ *
+ * @author speedbird-kk
+ * @see WUGraph
+ * @since 2025
+ * @version 1.0
+ */
+public final class ShortestPaths {
+    private static final int FORWARD = 0;
+    private static final int BACKWARD = 1;
+
+    private final int n;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+
+    private final double[][] distances;
+    private final int[][] parents;
+    private final int[][] reached;
+    private final IndexedMinHeap[] heaps;
+    private int stamp;
+
+    /**
+     * Source, target and meeting vertex of the last point-to-point query, with {@code meeting}
+     * equal to {@code -1} if the target was unreachable.
+     */
+    private int lastSource = -1;
+    private int lastTarget = -1;
+    private int meeting = -1;
+    private boolean lastBidirectional;
+
+    /**
+     * Constructs an engine for {@code g}, allocating the scratch arrays for its vertices.
+     * @param g the weighted graph
+     * @throws NullPointerException if {@code g} is null
+     */
+    public ShortestPaths(WUGraph<?> g) {
+        Objects.requireNonNull(g, "Weighted graph must not be null");
+
+        this.n = g.verticesCount();
+        this.offsets = g.offsets();
+        this.targets = g.targets();
+        this.weights = g.weights();
+        this.distances = new double[2][n];
+        this.parents = new int[2][n];
+        this.reached = new int[2][n];
+        this.heaps = new IndexedMinHeap[] {new IndexedMinHeap(n), new IndexedMinHeap(n)};
+    }
+
+    /**
+     * Returns the length of a shortest path from {@code source} to {@code target}, computed with
+     * Dijkstra's algorithm and stopped as soon as {@code target} is settled.
+     * @param source the index of the first vertex
+     * @param target the index of the last vertex
+     * @throws IllegalArgumentException if {@code source} or {@code target} is not a valid vertex index
+     * @return the distance, or {@code Double.POSITIVE_INFINITY} if {@code target} is unreachable
+     */
+    public double distance(int source, int target) {
+        return search(source, target, null);
+    }
+
+    /**
+     * Returns the length of a shortest path from {@code source} to {@code target}, computed with A*.
+     *
+     * <p>The heuristic estimates the distance from a vertex to {@code target}. It must be consistent,
+     * that is {@code h(u) <= w(u, v) + h(v)} for every edge and {@code h(target) == 0}, which makes
+     * every settled distance final. With {@code h} identically 0 this is {@link #distance(int, int)}.
+     * @param source the index of the first vertex
+     * @param target the index of the last vertex
+     * @param heuristic the consistent lower bound on the distance from a vertex index to {@code target}
+     * @throws NullPointerException if {@code heuristic} is null
+     * @throws IllegalArgumentException if {@code source} or {@code target} is not a valid vertex index
+     * @return the distance, or {@code Double.POSITIVE_INFINITY} if {@code target} is unreachable
+     */
+    public double aStarDistance(int source, int target, IntToDoubleFunction heuristic) {
+        Objects.requireNonNull(heuristic, "Heuristic must not be null");
+
+        return search(source, target, heuristic);
+    }
+
+    private double search(int source, int target, IntToDoubleFunction heuristic) {
+        requireIndex(source);
+        requireIndex(target);
+        begin(source, target, false);
+
+        IndexedMinHeap heap = heaps[FORWARD];
+        double[] dist = distances[FORWARD];
+
+        reach(FORWARD, source, 0, -1);
+        heap.offer(source, heuristic == null ? 0 : heuristic.applyAsDouble(source));
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+
+            if (u == target) {
+                meeting = target;
+                return dist[target];
+            }
+
+            relax(FORWARD, u, heuristic);
+        }
+
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the length of a shortest path from {@code source} to {@code target}, computed with
+     * bidirectional Dijkstra.
+     *
+     * <p>One search grows from each end, always advancing the side with the smaller tentative
+     * distance, and every edge scanned between the two searches is a candidate for the shortest
+     * path. The searches stop once the sum of their smallest tentative distances reaches the best
+     * candidate, which usually settles far fewer vertices than {@link #distance(int, int)}.
+     * @param source the index of the first vertex
+     * @param target the index of the last vertex
+     * @throws IllegalArgumentException if {@code source} or {@code target} is not a valid vertex index
+     * @return the distance, or {@code Double.POSITIVE_INFINITY} if {@code target} is unreachable
+     */
+    public double bidirectionalDistance(int source, int target) {
+        requireIndex(source);
+        requireIndex(target);
+        begin(source, target, true);
+
+        if (source == target) {
+            reach(FORWARD, source, 0, -1);
+            reach(BACKWARD, target, 0, -1);
+            meeting = source;
+            return 0;
+        }
+
+        reach(FORWARD, source, 0, -1);
+        reach(BACKWARD, target, 0, -1);
+        heaps[FORWARD].offer(source, 0);
+        heaps[BACKWARD].offer(target, 0);
+
+        double best = Double.POSITIVE_INFINITY;
+
+        while (!heaps[FORWARD].isEmpty() && !heaps[BACKWARD].isEmpty()) {
+            double forwardTop = heaps[FORWARD].peekKey();
+            double backwardTop = heaps[BACKWARD].peekKey();
+
+            if (forwardTop + backwardTop >= best) {
+                break;
+            }
+
+            int side = forwardTop <= backwardTop ? FORWARD : BACKWARD;
+            int u = heaps[side].poll();
+            relax(side, u, null);
+
+            double[] dist = distances[side];
+            double[] otherDist = distances[1 - side];
+            int[] otherReached = reached[1 - side];
+
+            for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                int v = targets[p];
+
+                if (otherReached[v] == stamp && dist[v] + otherDist[v] < best) {
+                    best = dist[v] + otherDist[v];
+                    meeting = v;
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Fills {@code out} with the distance from {@code source} to every vertex, computed with
+     * Dijkstra's algorithm over the whole graph.
+     * @param source the index of the first vertex
+     * @param out the array to fill, of length at least {@code verticesCount()}
+     * @throws NullPointerException if {@code out} is null
+     * @throws IllegalArgumentException if {@code source} is not a valid vertex index or if {@code out}
+     * is too short
+     * @return {@code out}, with {@code Double.POSITIVE_INFINITY} for unreachable vertices
+     */
+    public double[] distancesFrom(int source, double[] out) {
+        Objects.requireNonNull(out, "Array of distances must not be null");
+
+        if (out.length < n) {
+            throw new IllegalArgumentException("Array of distances must have an entry for every vertex");
+        }
+
+        requireIndex(source);
+        begin(source, -1, false);
+
+        IndexedMinHeap heap = heaps[FORWARD];
+        double[] dist = distances[FORWARD];
+
+        Arrays.fill(out, 0, n, Double.POSITIVE_INFINITY);
+        reach(FORWARD, source, 0, -1);
+        heap.offer(source, 0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            out[u] = dist[u];
+            relax(FORWARD, u, null);
+        }
+
+        return out;
+    }
+
+    /**
+     * Returns the distance from {@code source} to every vertex in a new array.
+     * @param source the index of the first vertex
+     * @throws IllegalArgumentException if {@code source} is not a valid vertex index
+     * @return the array of distances by vertex index, with {@code Double.POSITIVE_INFINITY} for
+     * unreachable vertices
+     * @see #distancesFrom(int, double[])
+     */
+    public double[] distancesFrom(int source) {
+        return distancesFrom(source, new double[n]);
+    }
+
+    /**
+     * Returns the vertices of a shortest path found by the last point-to-point query, from its
+     * source to its target.
+     * @throws IllegalStateException if no point-to-point query has been run
+     * @return the array of vertex indices on the path, or an empty array if the target was unreachable
+     */
+    public int[] lastPath() {
+        if (lastSource < 0 || lastTarget < 0) {
+            throw new IllegalStateException("No shortest path query has been run");
+        }
+
+        if (meeting < 0) {
+            return new int[0];
+        }
+
+        int forwardLength = chainLength(FORWARD, meeting);
+        int backwardLength = lastBidirectional ? chainLength(BACKWARD, meeting) - 1 : 0;
+        int[] path = new int[forwardLength + backwardLength];
+
+        int k = forwardLength - 1;
+
+        for (int v = meeting; v >= 0; v = parents[FORWARD][v]) {
+            path[k--] = v;
+        }
+
+        k = forwardLength;
+
+        for (int v = lastBidirectional ? parents[BACKWARD][meeting] : -1; v >= 0; v = parents[BACKWARD][v]) {
+            path[k++] = v;
+        }
+
+        return path;
+    }
+
+    /**
+     * Relaxes every edge out of the settled vertex {@code u} on one side of the search, keying the
+     * heap by distance plus {@code heuristic} if it is not null. A vertex reached under the current
+     * stamp but no longer in the heap is settled, so no separate settled marks are kept.
+     */
+    private void relax(int side, int u, IntToDoubleFunction heuristic) {
+        double[] dist = distances[side];
+        int[] parent = parents[side];
+        int[] reachedSide = reached[side];
+        IndexedMinHeap heap = heaps[side];
+        double du = dist[u];
+
+        for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+            int v = targets[p];
+            double d = du + weights[p];
+
+            if (reachedSide[v] == stamp && (d >= dist[v] || !heap.contains(v))) {
+                continue;
+            }
+
+            dist[v] = d;
+            parent[v] = u;
+            reachedSide[v] = stamp;
+            heap.offer(v, heuristic == null ? d : d + heuristic.applyAsDouble(v));
+        }
+    }
+
+    private int chainLength(int side, int v) {
+        int length = 0;
+
+        for (; v >= 0; v = parents[side][v]) {
+            length++;
+        }
+
+        return length;
+    }
+
+    /**
+     * Starts a new query by bumping the stamp and emptying both heaps.
+     */
+    private void begin(int source, int target, boolean bidirectional) {
+        if (stamp == Integer.MAX_VALUE) {
+            for (int side = 0; side < 2; side++) {
+                Arrays.fill(reached[side], 0);
+            }
+
+            stamp = 0;
+        }
+
+        stamp++;
+        heaps[FORWARD].clear();
+        heaps[BACKWARD].clear();
+        lastSource = source;
+        lastTarget = target;
+        lastBidirectional = bidirectional;
+        meeting = -1;
+    }
+
+    private void reach(int side, int v, double d, int parent) {
+        distances[side][v] = d;
+        parents[side][v] = parent;
+        reached[side][v] = stamp;
+    }
+
+    private void requireIndex(int i) {
+        if (i < 0 || i >= n) {
+            throw new IllegalArgumentException("Vertex index must be between 0 and the number of vertices");
+        }
+    }
+}
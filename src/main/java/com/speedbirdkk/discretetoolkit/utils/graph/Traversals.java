@@ -0,0 +1,689 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+import com.speedbirdkk.discretetoolkit.model.graph.UGraph;
+
+public final class Traversals {
+    /**
+     * Number of frontier vertices expanded by one task of the parallel breadth-first search.
+     */
+    private static final int FRONTIER_CHUNK = 2048;
+
+    private Traversals() {}
+
+    /**
+     * Returns a lazy breadth-first iterator over the vertices of {@code g} reachable from {@code source}.
+     *
+     * <p>Vertices are returned in non-decreasing order of their hop distance from {@code source},
+     * starting with {@code source} itself. Each step reads the neighbourhood of one vertex from the
+     * adjacency index of {@code g}, so a complete traversal runs in O(|V| + |E|) and stopping early
+     * costs only the vertices visited so far.
+     * @param <A> the vertex type
+     * @param g the graph to traverse
+     * @param source the vertex to start from
+     * @throws NullPointerException if {@code g} or {@code source} is null
+     * @throws IllegalArgumentException if {@code source} is not contained in the set of vertices
+     * @return the breadth-first iterator from {@code source}
+     */
+    public static <A> Iterator<A> bfs(UGraph<A> g, A source) {
+        requireVertex(g, source);
+
+        Deque<A> queue = new ArrayDeque<>();
+        Set<A> visited = new HashSet<>();
+        queue.add(source);
+        visited.add(source);
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public A next() {
+                A v = queue.poll();
+
+                if (v == null) {
+                    throw new NoSuchElementException();
+                }
+
+                for (A w : g.neighbours(v)) {
+                    if (visited.add(w)) {
+                        queue.add(w);
+                    }
+                }
+
+                return v;
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy depth-first iterator over the vertices of {@code g} reachable from {@code source}.
+     *
+     * <p>Vertices are returned in preorder, starting with {@code source}. The traversal keeps an explicit
+     * stack of neighbourhood iterators instead of recursing, so deep graphs do not overflow the call stack.
+     * @param <A> the vertex type
+     * @param g the graph to traverse
+     * @param source the vertex to start from
+     * @throws NullPointerException if {@code g} or {@code source} is null
+     * @throws IllegalArgumentException if {@code source} is not contained in the set of vertices
+     * @return the depth-first iterator from {@code source}
+     */
+    public static <A> Iterator<A> dfs(UGraph<A> g, A source) {
+        requireVertex(g, source);
+
+        Deque<Iterator<A>> stack = new ArrayDeque<>();
+        Set<A> visited = new HashSet<>();
+
+        return new Iterator<>() {
+            private A next = source;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public A next() {
+                A v = next;
+
+                if (v == null) {
+                    throw new NoSuchElementException();
+                }
+
+                visited.add(v);
+                stack.push(g.neighbours(v).iterator());
+                next = advance();
+
+                return v;
+            }
+
+            private A advance() {
+                while (!stack.isEmpty()) {
+                    Iterator<A> it = stack.peek();
+
+                    while (it.hasNext()) {
+                        A w = it.next();
+
+                        if (!visited.contains(w)) {
+                            return w;
+                        }
+                    }
+
+                    stack.pop();
+                }
+
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy breadth-first iterator over the indices of the vertices of {@code g} reachable
+     * from the vertex with index {@code source}.
+     * @param g the compact graph to traverse
+     * @param source the index of the vertex to start from
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code source} is not a valid vertex index
+     * @return the breadth-first iterator of vertex indices from {@code source}
+     * @see #bfs(UGraph, Object)
+     */
+    public static PrimitiveIterator.OfInt bfs(IntUGraph<?> g, int source) {
+        requireIndex(g, source);
+
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        int[] queue = new int[g.verticesCount()];
+        boolean[] visited = new boolean[g.verticesCount()];
+        queue[0] = source;
+        visited[source] = true;
+
+        return new PrimitiveIterator.OfInt() {
+            private int head = 0;
+            private int tail = 1;
+
+            @Override
+            public boolean hasNext() {
+                return head < tail;
+            }
+
+            @Override
+            public int nextInt() {
+                if (head == tail) {
+                    throw new NoSuchElementException();
+                }
+
+                int v = queue[head++];
+
+                for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                    int w = targets[p];
+
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        queue[tail++] = w;
+                    }
+                }
+
+                return v;
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy depth-first iterator over the indices of the vertices of {@code g} reachable
+     * from the vertex with index {@code source}, in preorder.
+     * @param g the compact graph to traverse
+     * @param source the index of the vertex to start from
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code source} is not a valid vertex index
+     * @return the depth-first iterator of vertex indices from {@code source}
+     * @see #dfs(UGraph, Object)
+     */
+    public static PrimitiveIterator.OfInt dfs(IntUGraph<?> g, int source) {
+        requireIndex(g, source);
+
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        int[] stack = new int[g.verticesCount()];
+        int[] positions = new int[g.verticesCount()];
+        boolean[] visited = new boolean[g.verticesCount()];
+
+        return new PrimitiveIterator.OfInt() {
+            private int depth = -1;
+            private int next = source;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                int v = next;
+
+                if (v < 0) {
+                    throw new NoSuchElementException();
+                }
+
+                visited[v] = true;
+                depth++;
+                stack[depth] = v;
+                positions[depth] = offsets[v];
+                next = advance();
+
+                return v;
+            }
+
+            private int advance() {
+                while (depth >= 0) {
+                    int v = stack[depth];
+
+                    while (positions[depth] < offsets[v + 1]) {
+                        int w = targets[positions[depth]++];
+
+                        if (!visited[w]) {
+                            return w;
+                        }
+                    }
+
+                    depth--;
+                }
+
+                return -1;
+            }
+        };
+    }
+
+    /**
+     * Returns the hop distance from {@code source} to every vertex of {@code g} reachable from it.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @param source the vertex to measure from
+     * @throws NullPointerException if {@code g} or {@code source} is null
+     * @throws IllegalArgumentException if {@code source} is not contained in the set of vertices
+     * @return the map from each reachable vertex to its number of edges from {@code source}
+     */
+    public static <A> Map<A, Integer> hopDistances(UGraph<A> g, A source) {
+        requireVertex(g, source);
+
+        Map<A, Integer> distances = new HashMap<>();
+        Deque<A> queue = new ArrayDeque<>();
+        distances.put(source, 0);
+        queue.add(source);
+
+        while (!queue.isEmpty()) {
+            A v = queue.poll();
+            int next = distances.get(v) + 1;
+
+            for (A w : g.neighbours(v)) {
+                if (distances.putIfAbsent(w, next) == null) {
+                    queue.add(w);
+                }
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Returns the hop distance from the vertex with index {@code source} to every vertex of {@code g}.
+     * @param g the compact graph
+     * @param source the index of the vertex to measure from
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code source} is not a valid vertex index
+     * @return the array of hop distances by vertex index, with {@code -1} for unreachable vertices
+     */
+    public static int[] hopDistances(IntUGraph<?> g, int source) {
+        requireIndex(g, source);
+
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        int[] distances = new int[g.verticesCount()];
+        int[] queue = new int[g.verticesCount()];
+        Arrays.fill(distances, -1);
+
+        distances[source] = 0;
+        queue[0] = source;
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            int v = queue[head++];
+
+            for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                int w = targets[p];
+
+                if (distances[w] < 0) {
+                    distances[w] = distances[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Returns {@code true} if there is a path between {@code u} and {@code v} in {@code g}.
+     * The breadth-first search from {@code u} stops as soon as {@code v} is reached.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @param u the first vertex
+     * @param v the second vertex
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code u} or {@code v} is not contained in the set of vertices
+     * @return {@code true} if {@code u} and {@code v} lie in the same connected component
+     */
+    public static <A> boolean connected(UGraph<A> g, A u, A v) {
+        requireVertex(g, v);
+
+        Iterator<A> it = bfs(g, u);
+
+        while (it.hasNext()) {
+            if (it.next().equals(v)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Labels the connected components of {@code g}.
+     *
+     * <p>Components are numbered {@code 0, 1, ...} in increasing order of the smallest vertex index
+     * they contain, so the labelling depends only on the graph and not on the traversal.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the array of component labels by vertex index
+     */
+    public static int[] componentLabels(IntUGraph<?> g) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+
+        int n = g.verticesCount();
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        int[] labels = new int[n];
+        int[] queue = new int[n];
+        Arrays.fill(labels, -1);
+
+        int components = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (labels[s] >= 0) {
+                continue;
+            }
+
+            labels[s] = components;
+            queue[0] = s;
+            int head = 0;
+            int tail = 1;
+
+            while (head < tail) {
+                int v = queue[head++];
+
+                for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                    int w = targets[p];
+
+                    if (labels[w] < 0) {
+                        labels[w] = components;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+
+            components++;
+        }
+
+        return labels;
+    }
+
+    /**
+     * Returns the connected components of {@code g} as a list of sets of vertices.
+     *
+     * <p>The graph is converted once to its compact form and labelled with
+     * {@link #componentLabels(IntUGraph)}, so this runs in O(|V| + |E|).
+     * @param <A> the vertex type
+     * @param g the graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the list of connected components, ordered by component label
+     */
+    public static <A> List<Set<A>> connectedComponents(UGraph<A> g) {
+        return connectedComponents(IntUGraph.fromUGraph(g));
+    }
+
+    /**
+     * Returns the connected components of {@code g} as a list of sets of vertices.
+     * @param <A> the vertex type
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the list of connected components, ordered by component label
+     * @see #componentLabels(IntUGraph)
+     */
+    public static <A> List<Set<A>> connectedComponents(IntUGraph<A> g) {
+        return componentsFromLabels(g, componentLabels(g));
+    }
+
+    /**
+     * Groups the vertices of {@code g} by component label, where labels are {@code 0, 1, ...}.
+     */
+    static <A> List<Set<A>> componentsFromLabels(IntUGraph<A> g, int[] labels) {
+        List<Set<A>> components = new ArrayList<>();
+
+        for (int i = 0; i < labels.length; i++) {
+            while (components.size() <= labels[i]) {
+                components.add(new HashSet<>());
+            }
+
+            components.get(labels[i]).add(g.label(i));
+        }
+
+        return components.stream()
+            .map(Set::copyOf)
+            .toList();
+    }
+
+    /**
+     * Returns the number of connected components of {@code g}.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the number of connected components
+     */
+    public static int componentsCount(IntUGraph<?> g) {
+        int[] labels = componentLabels(g);
+
+        return labels.length == 0 ? 0 : Arrays.stream(labels).max().getAsInt() + 1;
+    }
+
+    /**
+     * Labels the connected components of {@code g} in parallel on the common {@code ForkJoinPool}.
+     *
+     * <p>The edges are merged into a lock-free union-find in which every link points the larger
+     * root at the smaller one, so each component ends up rooted at its smallest vertex index no
+     * matter in which order the threads run. Components are then numbered in increasing order of
+     * that index, which makes the result identical to {@link #componentLabels(IntUGraph)}.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the array of component labels by vertex index
+     */
+    public static int[] parallelComponentLabels(IntUGraph<?> g) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+
+        int n = g.verticesCount();
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        AtomicIntegerArray parents = new AtomicIntegerArray(n);
+
+        IntStream.range(0, n).parallel().forEach(i -> parents.set(i, i));
+
+        IntStream.range(0, n).parallel().forEach(i -> {
+            for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                if (targets[p] > i) {
+                    union(parents, i, targets[p]);
+                }
+            }
+        });
+
+        int[] roots = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> roots[i] = find(parents, i));
+
+        int[] rootLabels = new int[n];
+        int components = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (roots[i] == i) {
+                rootLabels[i] = components++;
+            }
+        }
+
+        int[] labels = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> labels[i] = rootLabels[roots[i]]);
+
+        return labels;
+    }
+
+    /**
+     * Returns the connected components of {@code g}, computed with {@link #parallelComponentLabels(IntUGraph)}.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the list of connected components, identical to {@link #connectedComponents(UGraph)}
+     */
+    public static <A> List<Set<A>> parallelConnectedComponents(UGraph<A> g) {
+        IntUGraph<A> compact = IntUGraph.fromUGraph(g);
+
+        return componentsFromLabels(compact, parallelComponentLabels(compact));
+    }
+
+    /**
+     * Returns the hop distance from the vertex with index {@code source} to every vertex of {@code g},
+     * computed by a level-synchronous breadth-first search on the common {@code ForkJoinPool}.
+     *
+     * <p>Each level expands the whole frontier in parallel, and a vertex is claimed for the next level
+     * by an atomic compare-and-set on its distance. The distance of a vertex is its level, whichever
+     * thread claims it, so the result is identical to {@link #hopDistances(IntUGraph, int)}.
+     * @param g the compact graph
+     * @param source the index of the vertex to measure from
+     * @throws NullPointerException if {@code g} is null
+     * @throws IllegalArgumentException if {@code source} is not a valid vertex index
+     * @return the array of hop distances by vertex index, with {@code -1} for unreachable vertices
+     */
+    public static int[] parallelHopDistances(IntUGraph<?> g, int source) {
+        requireIndex(g, source);
+
+        int n = g.verticesCount();
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        AtomicIntegerArray distances = new AtomicIntegerArray(n);
+
+        IntStream.range(0, n).parallel().forEach(i -> distances.set(i, -1));
+        distances.set(source, 0);
+
+        int[] frontier = {source};
+
+        for (int level = 1; frontier.length > 0; level++) {
+            int[] current = frontier;
+            int next = level;
+            int chunks = (current.length + FRONTIER_CHUNK - 1) / FRONTIER_CHUNK;
+
+            int[][] claimed = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> expand(current, c * FRONTIER_CHUNK,
+                    Math.min(current.length, (c + 1) * FRONTIER_CHUNK), offsets, targets, distances, next))
+                .toArray(int[][]::new);
+
+            frontier = concat(claimed);
+        }
+
+        int[] out = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> out[i] = distances.get(i));
+
+        return out;
+    }
+
+    /**
+     * Returns the hop distance from {@code source} to every vertex of {@code g} reachable from it,
+     * computed with {@link #parallelHopDistances(IntUGraph, int)}.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @param source the vertex to measure from
+     * @throws NullPointerException if {@code g} or {@code source} is null
+     * @throws IllegalArgumentException if {@code source} is not contained in the set of vertices
+     * @return the map from each reachable vertex to its number of edges from {@code source}
+     */
+    public static <A> Map<A, Integer> parallelHopDistances(UGraph<A> g, A source) {
+        requireVertex(g, source);
+
+        IntUGraph<A> compact = IntUGraph.fromUGraph(g);
+        int[] distances = parallelHopDistances(compact, compact.indexOf(source));
+        Map<A, Integer> out = new HashMap<>();
+
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] >= 0) {
+                out.put(compact.label(i), distances[i]);
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Expands the slice {@code from..to} of a frontier, claiming every unvisited neighbour for
+     * {@code level}, and returns the claimed vertices.
+     */
+    private static int[] expand(
+        int[] frontier, int from, int to, int[] offsets, int[] targets, AtomicIntegerArray distances, int level
+    ) {
+        int[] claimed = new int[16];
+        int size = 0;
+
+        for (int k = from; k < to; k++) {
+            int v = frontier[k];
+
+            for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                int w = targets[p];
+
+                if (distances.get(w) < 0 && distances.compareAndSet(w, -1, level)) {
+                    if (size == claimed.length) {
+                        claimed = Arrays.copyOf(claimed, 2 * size);
+                    }
+
+                    claimed[size++] = w;
+                }
+            }
+        }
+
+        return Arrays.copyOf(claimed, size);
+    }
+
+    private static int[] concat(int[][] parts) {
+        int length = 0;
+
+        for (int[] part : parts) {
+            length += part.length;
+        }
+
+        int[] out = new int[length];
+        int k = 0;
+
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, out, k, part.length);
+            k += part.length;
+        }
+
+        return out;
+    }
+
+    /**
+     * Finds the root of {@code x} in a concurrent union-find, halving the path with compare-and-set.
+     */
+    private static int find(AtomicIntegerArray parents, int x) {
+        while (true) {
+            int p = parents.get(x);
+
+            if (p == x) {
+                return x;
+            }
+
+            int grandparent = parents.get(p);
+            parents.compareAndSet(x, p, grandparent);
+            x = grandparent;
+        }
+    }
+
+    /**
+     * Merges the sets of {@code x} and {@code y} in a concurrent union-find by linking the larger
+     * root to the smaller root, retrying if another thread changed either root meanwhile.
+     */
+    private static void union(AtomicIntegerArray parents, int x, int y) {
+        while (true) {
+            int rx = find(parents, x);
+            int ry = find(parents, y);
+
+            if (rx == ry) {
+                return;
+            }
+
+            int small = Math.min(rx, ry);
+            int large = Math.max(rx, ry);
+
+            if (parents.compareAndSet(large, large, small)) {
+                return;
+            }
+        }
+    }
+
+    private static <A> void requireVertex(UGraph<A> g, A v) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+        Objects.requireNonNull(v, "Vertex must not be null");
+
+        if (!g.vertices().contains(v)) {
+            throw new IllegalArgumentException("Vertex must be contained in the set of vertices");
+        }
+    }
+
+    static void requireIndex(IntUGraph<?> g, int i) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+
+        if (i < 0 || i >= g.verticesCount()) {
+            throw new IllegalArgumentException("Vertex index must be between 0 and the number of vertices");
+        }
+    }
+}
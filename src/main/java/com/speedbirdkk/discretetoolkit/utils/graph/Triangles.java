@@ -0,0 +1,397 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+import com.speedbirdkk.discretetoolkit.model.graph.UGraph;
+
+public final class Triangles {
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    private Triangles() {}
+
+    /**
+     * Returns the number of triangles in {@code g}.
+     *
+     * <p>Every edge is oriented from its endpoint of lower degree to its endpoint of higher degree,
+     * with ties broken by index, so that each vertex keeps at most O(sqrt |E|) forward neighbours.
+     * Each triangle is then found exactly once, at its lowest vertex {@code u}, by intersecting the
+     * forward neighbourhood of {@code u}, marked in a scratch array, with the forward neighbourhood of
+     * each forward neighbour {@code v} of {@code u}. The whole count runs in O(|E|^1.5).
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the number of triangles
+     */
+    public static long count(IntUGraph<?> g) {
+        Oriented o = Oriented.of(g, false);
+        int[] marks = o.newMarks();
+        long total = 0;
+
+        for (int u = 0; u < o.size(); u++) {
+            total += o.trianglesAt(u, marks, null);
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the number of triangles in {@code g}.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @throws NullPointerException if {@code g} is null
+     * @see #count(IntUGraph)
+     * @return the number of triangles
+     */
+    public static <A> long count(UGraph<A> g) {
+        return count(IntUGraph.fromUGraph(g));
+    }
+
+    /**
+     * Returns the number of triangles in {@code g}, computed as in {@link #count(IntUGraph)} with the
+     * vertices split into a few blocks per thread of the common {@code ForkJoinPool}. Each block has
+     * its own scratch array of {@code |V|} entries, released once the count returns.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the number of triangles
+     */
+    public static long parallelCount(IntUGraph<?> g) {
+        Oriented o = Oriented.of(g, true);
+        int n = o.size();
+        int blocks = blocks(n);
+
+        return IntStream.range(0, blocks)
+            .parallel()
+            .mapToLong(k -> {
+                int[] marks = o.newMarks();
+                long total = 0;
+
+                for (int u = k; u < n; u += blocks) {
+                    total += o.trianglesAt(u, marks, null);
+                }
+
+                return total;
+            })
+            .sum();
+    }
+
+    /**
+     * Returns the number of triangles containing each vertex of {@code g}.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @see #count(IntUGraph)
+     * @return the array of triangle counts by vertex index
+     */
+    public static long[] countsByVertex(IntUGraph<?> g) {
+        Oriented o = Oriented.of(g, false);
+        int[] marks = o.newMarks();
+        long[] counts = new long[o.size()];
+
+        for (int u = 0; u < o.size(); u++) {
+            o.trianglesAt(u, marks, (a, b, c) -> {
+                counts[a]++;
+                counts[b]++;
+                counts[c]++;
+            });
+        }
+
+        return counts;
+    }
+
+    /**
+     * Returns the number of triangles containing each vertex of {@code g}.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @throws NullPointerException if {@code g} is null
+     * @see #count(IntUGraph)
+     * @return the map from each vertex to the number of triangles containing it
+     */
+    public static <A> Map<A, Long> countsByVertex(UGraph<A> g) {
+        IntUGraph<A> compact = IntUGraph.fromUGraph(g);
+        long[] counts = countsByVertex(compact);
+        Map<A, Long> out = new HashMap<>();
+
+        for (int i = 0; i < counts.length; i++) {
+            out.put(compact.label(i), counts[i]);
+        }
+
+        return out;
+    }
+
+    /**
+     * Returns the number of triangles containing each vertex of {@code g}, computed in parallel on
+     * the common {@code ForkJoinPool}.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the array of triangle counts by vertex index, identical to {@link #countsByVertex(IntUGraph)}
+     */
+    public static long[] parallelCountsByVertex(IntUGraph<?> g) {
+        Oriented o = Oriented.of(g, true);
+        int n = o.size();
+        int blocks = blocks(n);
+        AtomicLongArray counts = new AtomicLongArray(n);
+
+        IntStream.range(0, blocks).parallel().forEach(k -> {
+            int[] marks = o.newMarks();
+
+            for (int u = k; u < n; u += blocks) {
+                o.trianglesAt(u, marks, (a, b, c) -> {
+                    counts.incrementAndGet(a);
+                    counts.incrementAndGet(b);
+                    counts.incrementAndGet(c);
+                });
+            }
+        });
+
+        long[] out = new long[o.size()];
+
+        for (int i = 0; i < out.length; i++) {
+            out[i] = counts.get(i);
+        }
+
+        return out;
+    }
+
+    /**
+     * Returns the number of blocks the vertices are split into for a parallel count, a few per thread
+     * of the common {@code ForkJoinPool}. Block {@code k} takes the vertices {@code k, k + blocks, ...},
+     * so that high-degree vertices spread over the blocks, and allocates its own scratch array, which
+     * is released once the count returns.
+     */
+    private static int blocks(int n) {
+        return Math.min(n, Math.max(1, ForkJoinPool.getCommonPoolParallelism()) * BLOCKS_PER_THREAD);
+    }
+
+    /**
+     * Returns the local clustering coefficient of each vertex of {@code g}. More formally, the number
+     * of triangles containing a vertex of degree {@code d} divided by {@code d(d-1)/2}, or {@code 0}
+     * for vertices of degree less than 2.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the array of local clustering coefficients by vertex index
+     */
+    public static double[] localClustering(IntUGraph<?> g) {
+        return localClustering(g, countsByVertex(g));
+    }
+
+    /**
+     * Returns the local clustering coefficient of each vertex of {@code g}.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @throws NullPointerException if {@code g} is null
+     * @see #localClustering(IntUGraph)
+     * @return the map from each vertex to its local clustering coefficient
+     */
+    public static <A> Map<A, Double> localClustering(UGraph<A> g) {
+        IntUGraph<A> compact = IntUGraph.fromUGraph(g);
+        double[] coefficients = localClustering(compact);
+        Map<A, Double> out = new HashMap<>();
+
+        for (int i = 0; i < coefficients.length; i++) {
+            out.put(compact.label(i), coefficients[i]);
+        }
+
+        return out;
+    }
+
+    /**
+     * Returns the local clustering coefficient of each vertex of {@code g}, computed from
+     * {@link #parallelCountsByVertex(IntUGraph)}.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the array of local clustering coefficients by vertex index
+     */
+    public static double[] parallelLocalClustering(IntUGraph<?> g) {
+        return localClustering(g, parallelCountsByVertex(g));
+    }
+
+    /**
+     * Returns the average of the local clustering coefficients of the vertices of {@code g}, or
+     * {@code 0} if {@code g} has no vertices.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @see #localClustering(IntUGraph)
+     * @return the average local clustering coefficient
+     */
+    public static double averageClustering(IntUGraph<?> g) {
+        double[] coefficients = localClustering(g);
+        double sum = 0;
+
+        for (double c : coefficients) {
+            sum += c;
+        }
+
+        return coefficients.length == 0 ? 0 : sum / coefficients.length;
+    }
+
+    /**
+     * Returns the global clustering coefficient (transitivity) of {@code g}. More formally, three
+     * times the number of triangles divided by the number of paths of length 2, or {@code 0} if
+     * there are no such paths.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the global clustering coefficient
+     */
+    public static double globalClustering(IntUGraph<?> g) {
+        return globalClustering(g, count(g));
+    }
+
+    /**
+     * Returns the global clustering coefficient of {@code g}.
+     * @param <A> the vertex type
+     * @param g the graph
+     * @throws NullPointerException if {@code g} is null
+     * @see #globalClustering(IntUGraph)
+     * @return the global clustering coefficient
+     */
+    public static <A> double globalClustering(UGraph<A> g) {
+        return globalClustering(IntUGraph.fromUGraph(g));
+    }
+
+    /**
+     * Returns the global clustering coefficient of {@code g}, computed from {@link #parallelCount(IntUGraph)}.
+     * @param g the compact graph
+     * @throws NullPointerException if {@code g} is null
+     * @return the global clustering coefficient
+     */
+    public static double parallelGlobalClustering(IntUGraph<?> g) {
+        return globalClustering(g, parallelCount(g));
+    }
+
+    private static double[] localClustering(IntUGraph<?> g, long[] counts) {
+        double[] out = new double[counts.length];
+
+        for (int i = 0; i < out.length; i++) {
+            long d = g.degreeAt(i);
+
+            if (d >= 2) {
+                out[i] = 2.0 * counts[i] / (d * (d - 1));
+            }
+        }
+
+        return out;
+    }
+
+    private static double globalClustering(IntUGraph<?> g, long triangles) {
+        long wedges = 0;
+
+        for (int i = 0; i < g.verticesCount(); i++) {
+            long d = g.degreeAt(i);
+            wedges += d * (d - 1) / 2;
+        }
+
+        return wedges == 0 ? 0 : 3.0 * triangles / wedges;
+    }
+
+    @FunctionalInterface
+    private interface TriangleConsumer {
+        void accept(int u, int v, int w);
+    }
+
+    /**
+     * The degree-ordered orientation of a compact graph, stored in compressed sparse row form.
+     * The forward neighbours of each vertex are the neighbours ranked above it.
+     */
+    private record Oriented(int[] offsets, int[] targets) {
+        private static Oriented of(IntUGraph<?> g, boolean parallel) {
+            Objects.requireNonNull(g, "Undirected graph must not be null");
+
+            int n = g.verticesCount();
+            int[] offsets = g.offsets();
+            int[] targets = g.targets();
+            int[] forwardOffsets = new int[n + 1];
+
+            IntStream counting = IntStream.range(0, n);
+            (parallel ? counting.parallel() : counting).forEach(u -> {
+                int forward = 0;
+
+                for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                    if (ranksBelow(offsets, u, targets[p])) {
+                        forward++;
+                    }
+                }
+
+                forwardOffsets[u + 1] = forward;
+            });
+
+            for (int u = 0; u < n; u++) {
+                forwardOffsets[u + 1] += forwardOffsets[u];
+            }
+
+            int[] forwardTargets = new int[forwardOffsets[n]];
+
+            IntStream filling = IntStream.range(0, n);
+            (parallel ? filling.parallel() : filling).forEach(u -> {
+                int k = forwardOffsets[u];
+
+                for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                    if (ranksBelow(offsets, u, targets[p])) {
+                        forwardTargets[k++] = targets[p];
+                    }
+                }
+            });
+
+            return new Oriented(forwardOffsets, forwardTargets);
+        }
+
+        /**
+         * Returns {@code true} if {@code u} is ranked below {@code v}, by degree and then by index.
+         */
+        private static boolean ranksBelow(int[] offsets, int u, int v) {
+            int du = offsets[u + 1] - offsets[u];
+            int dv = offsets[v + 1] - offsets[v];
+
+            return du < dv || (du == dv && u < v);
+        }
+
+        private int size() {
+            return offsets.length - 1;
+        }
+
+        /**
+         * Returns a scratch array for {@link #trianglesAt(int, int[], TriangleConsumer)}.
+         */
+        private int[] newMarks() {
+            int[] marks = new int[size()];
+            Arrays.fill(marks, -1);
+            return marks;
+        }
+
+        /**
+         * Counts the triangles whose lowest ranked vertex is {@code u}, passing each to {@code action}
+         * if it is not null. The forward neighbours of {@code u} are marked with {@code u} in
+         * {@code marks}, so that the forward neighbours of each of them can be checked in O(1) each
+         * and the same array can be reused for every {@code u} without clearing it.
+         */
+        private long trianglesAt(int u, int[] marks, TriangleConsumer action) {
+            long found = 0;
+
+            for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                marks[targets[p]] = u;
+            }
+
+            for (int p = offsets[u]; p < offsets[u + 1]; p++) {
+                int v = targets[p];
+
+                for (int q = offsets[v]; q < offsets[v + 1]; q++) {
+                    int w = targets[q];
+
+                    if (marks[w] == u) {
+                        found++;
+
+                        if (action != null) {
+                            action.accept(u, v, w);
+                        }
+                    }
+                }
+            }
+
+            return found;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.speedbirdkk.discretetoolkit.utils.graph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
 import com.speedbirdkk.discretetoolkit.model.graph.UEdge;
 import com.speedbirdkk.discretetoolkit.model.graph.UGraph;
 import com.speedbirdkk.discretetoolkit.utils.Validate;
@@ -41,4 +45,76 @@ public final class UGraphs {
 
         return new UGraph<>(vertices, edges);
     }
+
+    /**
+     * Constructs an induced subgraph of a compact graph {@code g} with the set of {@code vertices}.
+     * 
+     * <p>The vertices of the subgraph receive new dense indices in increasing order of their index
+     * in {@code g}, and each row of {@code g} is filtered and renumbered without creating any edge
+     * objects, so this runs in O(|V| + |E|) of {@code g}.
+     * @param <A> the vertex type
+     * @param g the compact graph from which to construct an induced subgraph
+     * @param vertices the set of vertices in the induced subgraph
+     * @throws NullPointerException if {@code g} is null
+     * @throws NullPointerException if {@code vertices} is null
+     * @throws IllegalArgumentException if {@code vertices} is not a subset of the set of vertices
+     * in {@code g}
+     * @return the induced subgraph of {@code g} with the set of {@code vertices}
+     */
+    public static <A> IntUGraph<A> inducedSubgraph(IntUGraph<A> g, Set<A> vertices) {
+        Objects.requireNonNull(g, "Undirected graph must not be null");
+        Objects.requireNonNull(vertices, "Set of vertices must not be null");
+
+        if (!Validate.subset(vertices, g.vertices())) {
+            throw new IllegalArgumentException(
+            "Set of vertices of the induced subgraph must be a subset of the set of vertices of the graph");
+        }
+
+        int n = g.verticesCount();
+        int[] renumbered = new int[n];
+        Arrays.fill(renumbered, -1);
+
+        boolean[] kept = new boolean[n];
+
+        for (A v : vertices) {
+            kept[g.indexOf(v)] = true;
+        }
+
+        List<A> labels = new ArrayList<>(vertices.size());
+
+        for (int i = 0; i < n; i++) {
+            if (kept[i]) {
+                renumbered[i] = labels.size();
+                labels.add(g.label(i));
+            }
+        }
+
+        int[] offsets = g.offsets();
+        int[] targets = g.targets();
+        int m = 0;
+
+        for (int i = 0; i < n; i++) {
+            for (int p = offsets[i]; p < offsets[i + 1] && targets[p] < i; p++) {
+                if (kept[i] && kept[targets[p]]) {
+                    m++;
+                }
+            }
+        }
+
+        int[] us = new int[m];
+        int[] vs = new int[m];
+        int k = 0;
+
+        for (int i = 0; i < n; i++) {
+            for (int p = offsets[i]; p < offsets[i + 1] && targets[p] < i; p++) {
+                if (kept[i] && kept[targets[p]]) {
+                    us[k] = renumbered[i];
+                    vs[k] = renumbered[targets[p]];
+                    k++;
+                }
+            }
+        }
+
+        return IntUGraph.fromIndices(labels, us, vs);
+    }
 }
@@ -0,0 +1,56 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class LongHashSetTest {
+    @Test
+    public void givenMixedAddsAndRemoves_whenQueryLongHashSet_thenMatchHashSet() {
+        LongHashSet actual = new LongHashSet(2);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(3);
+
+        for (int k = 0; k < 20000; k++) {
+            // A small range so that values repeat and probe sequences collide after removals.
+            long value = random.nextInt(4000) - 2000L;
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), actual.remove(value));
+            } else {
+                assertEquals(expected.add(value), actual.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+
+        for (long value = -2100; value < 2100; value++) {
+            assertEquals(expected.contains(value), actual.contains(value));
+        }
+
+        long[] values = actual.toArray();
+        Arrays.sort(values);
+
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).sorted().toArray(), values);
+    }
+
+    @Test
+    public void givenZero_whenAddAndRemove_thenTrackedApartFromTable() {
+        LongHashSet set = new LongHashSet();
+
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertEquals(2, set.size());
+        assertEquals(Set.of(0L, Long.MIN_VALUE), Set.copyOf(set.stream().boxed().toList()));
+        assertTrue(set.remove(0));
+        assertFalse(set.contains(0));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertEquals(1, set.size());
+    }
+}
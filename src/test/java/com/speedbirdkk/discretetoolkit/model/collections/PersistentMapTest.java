@@ -0,0 +1,127 @@
+package com.speedbirdkk.discretetoolkit.model.collections;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class PersistentMapTest {
+    // Keys with id below COLLIDING all share one hash code, so they end up in a collision node.
+    private static final int COLLIDING = 8;
+
+    private record Key(int id) {
+        @Override
+        public int hashCode() {
+            return id < COLLIDING ? 42 : id;
+        }
+    }
+
+    @Test
+    public void givenCollidingKeys_whenWithAndWithout_thenMatchHashMapAndLeaveOlderVersionsUnchanged() {
+        Random random = new Random(11);
+        PersistentMap<Key, Integer> actual = PersistentMap.empty();
+        Map<Key, Integer> expected = new HashMap<>();
+
+        for (int k = 0; k < 2000; k++) {
+            Key key = new Key(random.nextInt(2 * COLLIDING));
+            PersistentMap<Key, Integer> before = actual;
+            Map<Key, Integer> expectedBefore = new HashMap<>(expected);
+
+            if (random.nextInt(3) == 0) {
+                actual = actual.without(key);
+                expected.remove(key);
+            } else {
+                actual = actual.with(key, k);
+                expected.put(key, k);
+            }
+
+            assertEquals(expectedBefore, before);
+            assertEquals(expected, actual);
+            assertEquals(expected.hashCode(), actual.hashCode());
+
+            for (int id = 0; id < 2 * COLLIDING; id++) {
+                assertEquals(expected.get(new Key(id)), actual.get(new Key(id)));
+            }
+        }
+    }
+
+    @Test
+    public void givenCollisionNode_whenRemoveAllButOneCollider_thenCollapseAndKeepOtherKeys() {
+        PersistentMap<Key, String> map = PersistentMap.<Key, String>empty()
+            .with(new Key(0), "a")
+            .with(new Key(1), "b")
+            .with(new Key(2), "c")
+            .with(new Key(42), "same hash, not colliding by equals");
+
+        PersistentMap<Key, String> collapsed = map.without(new Key(0)).without(new Key(1));
+
+        assertEquals(Map.of(new Key(2), "c", new Key(42), "same hash, not colliding by equals"), collapsed);
+        assertEquals("c", collapsed.get(new Key(2)));
+        assertNull(collapsed.get(new Key(1)));
+        assertEquals(4, map.size());
+        assertEquals(Map.of(new Key(42), "same hash, not colliding by equals"), collapsed.without(new Key(2)));
+        assertSame(collapsed, collapsed.without(new Key(5)));
+    }
+
+    @Test
+    public void givenBuilderReusedAfterBuild_whenEditCollidingKeys_thenEarlierBuildsStayFrozen() {
+        PersistentMap.Builder<Key, Integer> builder = PersistentMap.<Key, Integer>empty().toBuilder();
+
+        for (int id = 0; id < 2 * COLLIDING; id++) {
+            builder.put(new Key(id), id);
+        }
+
+        PersistentMap<Key, Integer> first = builder.build();
+        Map<Key, Integer> expectedFirst = new HashMap<>(first);
+
+        builder.put(new Key(1), -1);
+        builder.remove(new Key(2));
+        builder.remove(new Key(COLLIDING + 1));
+        builder.put(new Key(100), 100);
+
+        PersistentMap<Key, Integer> second = builder.build();
+
+        assertEquals(expectedFirst, first);
+        assertEquals(expectedFirst.hashCode(), first.hashCode());
+        assertEquals(2 * COLLIDING, first.size());
+        assertEquals(-1, second.get(new Key(1)));
+        assertFalse(second.containsKey(new Key(2)));
+        assertEquals(2 * COLLIDING - 1, second.size());
+        assertEquals(new HashMap<>(second).hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void givenMixedAddsAndRemoves_whenPersistentSet_thenMatchHashSet() {
+        Random random = new Random(5);
+        PersistentSet<Key> actual = PersistentSet.empty();
+        PersistentSet.Builder<Key> builder = actual.toBuilder();
+        Set<Key> expected = new HashSet<>();
+
+        for (int k = 0; k < 2000; k++) {
+            Key key = new Key(random.nextInt(3 * COLLIDING));
+
+            if (random.nextBoolean()) {
+                assertEquals(expected.remove(key), builder.remove(key));
+                actual = actual.without(key);
+            } else {
+                assertEquals(expected.add(key), builder.add(key));
+                actual = actual.with(key);
+            }
+
+            if (k % 100 == 0) {
+                PersistentSet<Key> built = builder.build();
+
+                assertEquals(expected, built);
+                assertEquals(expected.hashCode(), built.hashCode());
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(expected, builder.build());
+    }
+}
@@ -0,0 +1,75 @@
+package com.speedbirdkk.discretetoolkit.model.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.speedbirdkk.discretetoolkit.utils.graph.UGraphs;
+
+public class IntUGraphTest {
+    @Test
+    public void givenCycle_whenConvertToIntUGraphAndBack_thenReturnEqualGraph() {
+        UGraph<String> cycle = UGraph.cycle(List.of("a", "b", "c", "d"));
+
+        IntUGraph<String> compact = IntUGraph.fromUGraph(cycle);
+
+        assertEquals(4, compact.edgesCount());
+        assertTrue(compact.hasEdge("a", "d"));
+        assertFalse(compact.hasEdge("a", "c"));
+        assertEquals(cycle, compact.toUGraph());
+    }
+
+    @Test
+    public void givenComplete_whenInducedSubgraph_thenMatchUGraphInducedSubgraph() {
+        UGraph<Integer> complete = UGraph.complete(Set.of(0, 1, 2, 3, 4));
+        Set<Integer> vertices = Set.of(1, 3, 4);
+
+        IntUGraph<Integer> actual = UGraphs.inducedSubgraph(IntUGraph.fromUGraph(complete), vertices);
+        UGraph<Integer> expected = UGraphs.inducedSubgraph(complete, vertices);
+
+        assertEquals(expected, actual.toUGraph());
+    }
+
+    @Test
+    public void givenVertices_whenGenerateCompactGraphs_thenMatchUGraphFactories() {
+        List<Integer> vertices = List.of(4, 2, 7, 1, 9);
+
+        assertEquals(UGraph.complete(Set.copyOf(vertices)), IntUGraph.complete(vertices).toUGraph());
+        assertEquals(UGraph.star(Set.copyOf(vertices), 7), IntUGraph.star(vertices, 7).toUGraph());
+        assertEquals(UGraph.path(vertices), IntUGraph.path(vertices).toUGraph());
+        assertEquals(UGraph.cycle(vertices), IntUGraph.cycle(vertices).toUGraph());
+
+        IntUGraph<Integer> cube = IntUGraph.hypercube(3);
+        assertEquals(12, cube.edgesCount());
+        assertTrue(cube.hasEdgeAt(5, 7));
+        assertFalse(cube.hasEdgeAt(5, 6));
+
+        IntUGraph<Integer> grid = IntUGraph.grid(2, 3);
+        assertEquals(7, grid.edgesCount());
+        assertEquals(Set.of(0, 2, 4), grid.neighbours(1));
+    }
+
+    @Test
+    public void givenEdgeKeys_whenUnpackAndStream_thenRoundTripInIncreasingOrder() {
+        int[][] pairs = {{0, 1}, {1, 0}, {7, 7}, {0, Integer.MAX_VALUE}, {Integer.MAX_VALUE - 1, Integer.MAX_VALUE}};
+
+        for (int[] pair : pairs) {
+            long key = IntUGraph.edgeKey(pair[0], pair[1]);
+
+            assertEquals(key, IntUGraph.edgeKey(pair[1], pair[0]));
+            assertEquals(Math.min(pair[0], pair[1]), IntUGraph.edgeKeyFirst(key));
+            assertEquals(Math.max(pair[0], pair[1]), IntUGraph.edgeKeySecond(key));
+        }
+
+        IntUGraph<Integer> complete = IntUGraph.complete(List.of(0, 1, 2, 3, 4));
+        List<Long> expected = new ArrayList<>();
+        complete.forEachEdge(expected::add);
+
+        assertEquals(10, expected.size());
+        assertEquals(expected, complete.edgeKeyStream().boxed().toList());
+        assertEquals(expected, complete.edgeKeyStream().sorted().boxed().toList());
+    }
+}
@@ -0,0 +1,138 @@
+package com.speedbirdkk.discretetoolkit.model.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class UGraphTest {
+    @Test
+    public void givenPath_whenAddEdge_thenReturnCycleAndLeaveOriginalUnchanged() {
+        UGraph<Integer> path = UGraph.path(List.of(0, 1, 2, 3));
+
+        UGraph<Integer> actual = path.addEdge(new UEdge<>(3, 0));
+        UGraph<Integer> expected = UGraph.cycle(List.of(0, 1, 2, 3));
+
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(3, path.edgesCount());
+        assertFalse(path.hasEdge(0, 3));
+    }
+
+    @Test
+    public void givenStar_whenRemoveCentre_thenReturnIsolatedVertices() {
+        UGraph<Integer> star = UGraph.star(Set.of(0, 1, 2, 3), 0);
+
+        UGraph<Integer> actual = star.removeVertex(0);
+
+        assertEquals(new UGraph<>(Set.of(1, 2, 3), Set.of()), actual);
+        assertEquals(List.of(0L, 0L, 0L), actual.degreeSequence());
+    }
+
+    @Test
+    public void givenEdge_whenSubdivideEdge_thenReturnPathThroughNewVertex() {
+        UGraph<String> edge = UGraph.path(List.of("u", "v"));
+
+        UGraph<String> actual = edge.subdivideEdge("w", new UEdge<>("u", "v"));
+
+        assertEquals(UGraph.path(List.of("u", "w", "v")), actual);
+        assertEquals(Set.of("u", "v"), actual.neighbours("w"));
+    }
+
+    @Test
+    public void givenBatchOfEdits_whenEdit_thenReturnSameGraphAsChainedEdits() {
+        UGraph<Integer> cycle = UGraph.cycle(List.of(0, 1, 2, 3, 4));
+
+        UGraph<Integer> actual = cycle.edit(e -> e
+            .addEdge(new UEdge<>(0, 2))
+            .removeVertex(4)
+            .addVertex(5)
+            .addEdge(new UEdge<>(5, 1))
+            .removeEdge(new UEdge<>(1, 2)));
+        UGraph<Integer> expected = cycle
+            .addEdge(new UEdge<>(0, 2))
+            .removeVertex(4)
+            .edit(e -> e.addVertex(5))
+            .addEdge(new UEdge<>(5, 1))
+            .removeEdge(new UEdge<>(1, 2));
+
+        assertEquals(expected, actual);
+        assertEquals(5, cycle.edgesCount());
+    }
+
+    @Test
+    public void givenMissingEndpoint_whenEditAddEdge_thenThrowIllegalArgumentException() {
+        UGraph<Integer> path = UGraph.path(List.of(0, 1, 2));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> path.edit(e -> e.removeVertex(2).addEdge(new UEdge<>(0, 2))));
+    }
+
+    @Test
+    public void givenIsolatedVertices_whenAddEdges_thenConnectivityFollowsEachVersion() {
+        UGraph<Integer> empty = new UGraph<>(Set.of(0, 1, 2, 3), Set.of());
+        assertEquals(4, empty.componentsCount());
+
+        UGraph<Integer> one = empty.addEdge(new UEdge<>(0, 1));
+        UGraph<Integer> other = empty.addEdge(new UEdge<>(2, 3));
+
+        assertTrue(one.connected(0, 1));
+        assertFalse(one.connected(2, 3));
+        assertTrue(other.connected(2, 3));
+        assertFalse(other.connected(0, 1));
+        assertEquals(4, empty.componentsCount());
+        assertEquals(3, one.componentsCount());
+        assertEquals(3, one.addEdge(new UEdge<>(1, 2)).removeEdge(new UEdge<>(0, 1)).componentsCount());
+    }
+
+    @Test
+    public void givenSiblingSubdivisionsWithSameNewVertex_whenQueryConnectivity_thenVersionsStayIndependent() {
+        UGraph<Integer> parent = new UGraph<>(Set.of(0, 1, 2, 3), Set.of(new UEdge<>(0, 1), new UEdge<>(2, 3)));
+        parent.componentsCount();
+
+        UGraph<Integer> first = parent.subdivideEdge(9, new UEdge<>(0, 1));
+        UGraph<Integer> second = parent.subdivideEdge(9, new UEdge<>(2, 3));
+
+        assertFalse(second.connected(0, 2));
+        assertEquals(2, second.componentsCount());
+        assertTrue(first.connected(0, 9));
+        assertFalse(first.connected(9, 2));
+        assertEquals(2, first.componentsCount());
+        assertEquals(2, parent.componentsCount());
+    }
+
+    @Test
+    public void givenEditedGraph_whenQueryAdjacency_thenMatchEdgeSet() {
+        UGraph<Integer> graph = UGraph.cycle(List.of(0, 1, 2, 3, 4, 5)).edit(e -> e
+            .addEdge(new UEdge<>(0, 3))
+            .removeEdge(new UEdge<>(4, 5))
+            .addVertex(6)
+            .addEdge(new UEdge<>(6, 2))
+            .removeVertex(1));
+
+        for (int v : graph.vertices()) {
+            Set<Integer> expected = graph.edges().stream()
+                .filter(edge -> edge.u().equals(v) || edge.v().equals(v))
+                .map(edge -> edge.u().equals(v) ? edge.v() : edge.u())
+                .collect(Collectors.toSet());
+
+            assertFalse(graph.hasEdge(v, v));
+            assertEquals(expected, graph.neighbours(v));
+            assertEquals(expected.size(), graph.degree(v));
+
+            for (int u : graph.vertices()) {
+                assertEquals(u != v && graph.edges().contains(new UEdge<>(v, u)), graph.hasEdge(v, u));
+            }
+        }
+
+        List<Long> expected = graph.vertices().stream()
+            .map(v -> graph.edges().stream().filter(edge -> edge.u().equals(v) || edge.v().equals(v)).count())
+            .sorted(Collections.reverseOrder())
+            .toList();
+
+        assertEquals(expected, graph.degreeSequence());
+    }
+}
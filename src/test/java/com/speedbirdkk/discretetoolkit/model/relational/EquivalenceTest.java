@@ -0,0 +1,27 @@
+package com.speedbirdkk.discretetoolkit.model.relational;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+
+public class EquivalenceTest {
+    @Test
+    public void givenPairs_whenClosureOf_thenReturnPartition() {
+        Equivalence<Integer> e = Equivalence.closureOf(
+            Set.of(0, 1, 2, 3, 4, 5), Set.of(new Pair<>(0, 1), new Pair<>(2, 1), new Pair<>(3, 4)));
+
+        assertTrue(e.sameClass(0, 2));
+        assertFalse(e.sameClass(0, 3));
+        assertEquals(3, e.classesCount());
+        assertEquals(Set.of(Set.of(0, 1, 2), Set.of(3, 4), Set.of(5)), e.quotient());
+        assertEquals(Set.of(3, 4), e.classOf(4));
+        assertEquals(9 + 4 + 1, e.relationSet().size());
+        assertEquals(e.relationSet(), new HashSet<>(e.relationSet()));
+        assertTrue(e.relationSet().contains(new Pair<>(2, 0)));
+        assertEquals(e, Equivalence.fromClasses(e.classes()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.speedbirdkk.discretetoolkit.model.relational;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.speedbirdkk.discretetoolkit.exceptions.InvalidComparatorException;
+import com.speedbirdkk.discretetoolkit.exceptions.NotAnOrderingException;
+import com.speedbirdkk.discretetoolkit.model.Pair;
+
+public class OrderingTest {
+    @Test
+    public void givenDiamondHasseDiagram_whenQueryOrdering_thenAnswerFromReachabilityIndex() {
+        Ordering<String> o = Ordering.fromHasse(Map.of("0", Set.of("a", "b"), "a", Set.of("1"), "b", Set.of("1")));
+
+        assertTrue(o.lessOrEqual("0", "1"));
+        assertFalse(o.lessOrEqual("a", "b"));
+        assertTrue(o.covers("a", "1"));
+        assertFalse(o.covers("0", "1"));
+        assertEquals(Set.of("a", "1"), o.upSet("a"));
+        assertEquals(Set.of("0", "a", "b", "1"), o.downSet("1"));
+        assertEquals(9, o.relationSet().size());
+        assertTrue(o.relationSet().contains(new Pair<>("b", "b")));
+        assertThrows(NotAnOrderingException.class, () -> Ordering.fromHasse(Map.of("a", Set.of("b"), "b", Set.of("a"))));
+
+        Ordering<String> redundant = Ordering.fromHasse(Map.of("a", Set.of("b", "c"), "b", Set.of("c")));
+
+        assertFalse(redundant.covers("a", "c"));
+        assertEquals(Set.of(new Pair<>("a", "b"), new Pair<>("b", "c")), redundant.coveringRelation());
+        assertTrue(redundant.lessOrEqual("a", "c"));
+    }
+
+    @Test
+    public void givenComparator_whenQueryOrdering_thenAnswerFromRanks() {
+        Ordering<Integer> o = Ordering.fromComparator(Set.of(3, 1, 2, 4), Comparator.naturalOrder());
+
+        assertTrue(o.lessOrEqual(1, 4));
+        assertTrue(o.covers(2, 3));
+        assertEquals(Set.of(1, 2), o.downSet(2));
+        assertEquals(10, o.relationSet().size());
+        assertEquals(o.relationSet(), Set.copyOf(o.relationSet()));
+    }
+
+    @Test
+    public void givenDivisibilityRelationSet_whenConstructOrdering_thenCoveringRelationIsPrimeQuotients() {
+        Set<Pair<Integer, Integer>> divides = new HashSet<>();
+        Set<Pair<Integer, Integer>> expectedCovers = new HashSet<>();
+
+        for (int a = 1; a <= 30; a++) {
+            for (int b = a; b <= 30; b += a) {
+                divides.add(new Pair<>(a, b));
+
+                if (Set.of(2, 3, 5, 7, 11, 13, 17, 19, 23, 29).contains(b / a)) {
+                    expectedCovers.add(new Pair<>(a, b));
+                }
+            }
+        }
+
+        Ordering<Integer> o = Ordering.fromRelationSet(divides);
+
+        assertEquals(expectedCovers, o.coveringRelation());
+        assertEquals(divides, Set.copyOf(o.relationSet()));
+        assertTrue(o.lessOrEqual(3, 24));
+        assertThrows(NotAnOrderingException.class,
+            () -> Ordering.fromRelationSet(Set.of(new Pair<>(1, 1), new Pair<>(2, 2), new Pair<>(3, 3), new Pair<>(1, 2), new Pair<>(2, 3))));
+    }
+
+    @Test
+    public void givenParallelSortedTotalOrder_whenRankQueries_thenAnswerFromSortedElements() {
+        Ordering<Integer> o = Ordering.fromComparator(Set.of(10, 20, 30, 40), Comparator.naturalOrder(), true);
+
+        assertEquals(2, o.rank(30));
+        assertEquals(Optional.of(20), o.predecessor(30));
+        assertEquals(Optional.empty(), o.successor(40));
+        assertEquals(Optional.of(20), o.floor(25));
+        assertEquals(Optional.of(30), o.ceiling(25));
+        assertEquals(Optional.empty(), o.floor(5));
+        assertEquals(List.of(20, 30), o.range(15, 30));
+        assertEquals(3, o.coveringRelation().size());
+        assertTrue(o.coveringRelation().contains(new Pair<>(20, 30)));
+        assertTrue(o.isRankBased());
+        assertFalse(Ordering.fromRelationSet(Set.of(new Pair<>(1, 1), new Pair<>(2, 2), new Pair<>(1, 2))).isRankBased());
+        assertThrows(IllegalStateException.class,
+            () -> Ordering.fromRelationSet(Set.of(new Pair<>(1, 1), new Pair<>(2, 2), new Pair<>(1, 2))).floor(1));
+        assertThrows(InvalidComparatorException.class,
+            () -> Ordering.fromComparator(Set.of(1, 2, 3), Comparator.comparing((Integer x) -> x % 2)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.speedbirdkk.discretetoolkit.model.relational;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+
+public class RelationTest {
+    @Test
+    public void givenLazyDivisibility_whenQueryAndMaterialise_thenMatchEagerRelation() {
+        Set<Integer> numbers = IntStream.rangeClosed(1, 60).boxed().collect(Collectors.toSet());
+        AtomicInteger tests = new AtomicInteger();
+        Relation<Integer, Integer> lazy = Relation.lazy(numbers, numbers, (a, b) -> {
+            tests.incrementAndGet();
+            return b % a == 0;
+        }, true);
+        Relation<Integer, Integer> eager = new Relation<>(numbers, numbers, (a, b) -> b % a == 0);
+
+        assertTrue(lazy.isLazy());
+        assertEquals(0, tests.get());
+        assertTrue(lazy.relates(3, 12));
+        assertTrue(lazy.relates(3, 12));
+        assertFalse(lazy.relates(5, 61));
+        assertEquals(1, tests.get());
+        assertEquals(eager.relationSet(), lazy.relationSet().parallelStream().collect(Collectors.toSet()));
+        assertEquals(eager, lazy.materialise());
+        assertTrue(lazy.relationSet().contains(new Pair<>(4, 60)));
+    }
+}
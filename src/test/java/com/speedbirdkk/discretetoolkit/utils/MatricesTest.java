@@ -0,0 +1,63 @@
+package com.speedbirdkk.discretetoolkit.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import com.speedbirdkk.discretetoolkit.model.BitMatrix;
+import com.speedbirdkk.discretetoolkit.model.Matrix;
+import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.collections.Indexer;
+
+public class MatricesTest {
+    @Test
+    public void givenRandomAdjacencyMatrix_whenFloydWarshallOnBits_thenMatchFloydWarshallOnInts() {
+        int n = 130;
+        int[][] entries = new int[n][n];
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                entries[i][j] = random.nextInt(100) == 0 ? 1 : 0;
+            }
+        }
+
+        Matrix adj = new Matrix(entries);
+        BitMatrix closure = Matrices.floydWarshall(BitMatrix.of(adj));
+
+        assertEquals(Matrices.floydWarshall(adj), closure.toMatrix(List.of(), List.of()));
+        assertEquals(
+            Set.of(new Pair<>(1, 2), new Pair<>(2, 3), new Pair<>(1, 3)),
+            Relations.transitiveClosure(Set.of(1, 2, 3), Set.of(new Pair<>(1, 2), new Pair<>(2, 3))));
+
+        Indexer<Integer> shared = Indexer.of(List.of(1, 2, 3));
+        Set<Pair<Integer, Integer>> relationSet = Set.of(new Pair<>(3, 1), new Pair<>(1, 2));
+
+        assertEquals(
+            Relations.adjacencyMatrix(Set.of(1, 2, 3), Set.of(1, 2, 3), relationSet),
+            Relations.adjacencyMatrix(shared, shared, relationSet));
+        assertEquals(relationSet, Relations.relationSetFromMatrix(shared, shared, Relations.adjacencyMatrix(shared, shared, relationSet)));
+    }
+
+    @Test
+    public void givenRandomWeights_whenBlockedFloydWarshall_thenMatchSequentialExactly() {
+        int n = 150;
+        int[][] entries = new int[n][n];
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                entries[i][j] = i == j ? 0 : random.nextInt(20) == 0 ? 1 + random.nextInt(100) : Matrices.NO_PATH;
+            }
+        }
+
+        Matrix weights = new Matrix(entries);
+        Matrix adj = BitMatrix.of(weights).toMatrix(List.of(), List.of());
+
+        assertEquals(Matrices.minPlusFloydWarshall(weights), Matrices.parallelMinPlusFloydWarshall(weights, 16));
+        assertEquals(Matrices.floydWarshall(adj), Matrices.parallelFloydWarshall(adj, 7));
+    }
+}
@@ -0,0 +1,101 @@
+package com.speedbirdkk.discretetoolkit.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.Triple;
+import com.speedbirdkk.discretetoolkit.model.relational.Relation;
+
+public class RelationsTest {
+    @Test
+    public void givenSuccessorRelation_whenCompose_thenReturnPairsTwoApart() {
+        int n = 1000;
+        Set<Pair<Integer, Integer>> successor = new HashSet<>();
+        Set<Pair<Integer, Integer>> expected = new HashSet<>();
+
+        for (int i = 0; i + 1 < n; i++) {
+            successor.add(new Pair<>(i, i + 1));
+
+            if (i + 2 < n) {
+                expected.add(new Pair<>(i, i + 2));
+            }
+        }
+
+        Relation<Integer, Integer> R = new Relation<>(successor);
+        Relation<Integer, Integer> S = new Relation<>(Set.of(0, 1, 2), Set.of(0, 1, 2), (a, b) -> a <= b);
+
+        assertEquals(expected, Relations.compose(R, R).relationSet());
+        assertEquals(expected, Relations.compose(R, R, true).relationSet());
+        assertEquals(S.relationSet(), Relations.compose(S, S).relationSet());
+        assertEquals(Set.of(3, 4), Relations.image(R, Set.of(2, 3)));
+        assertEquals(Set.of(1, 2), Relations.preimage(R, Set.of(2, 3)));
+    }
+
+    @Test
+    public void givenRandomRelations_whenJoin_thenMatchReferenceJoinSequentiallyAndInParallel() {
+        Random random = new Random(7);
+        Set<Pair<Integer, Integer>> left = new HashSet<>();
+        Set<Pair<Integer, Integer>> right = new HashSet<>();
+
+        // Dense enough over 500 x 200 for compose to take the bit-matrix product.
+        for (int k = 0; k < 2000; k++) {
+            left.add(new Pair<>(random.nextInt(500), random.nextInt(200)));
+            right.add(new Pair<>(random.nextInt(200), random.nextInt(500)));
+        }
+
+        Set<Triple<Integer, Integer, Integer>> expected = new HashSet<>();
+
+        Map<Integer, List<Integer>> rightByMiddle = new HashMap<>();
+
+        for (Pair<Integer, Integer> s : right) {
+            rightByMiddle.computeIfAbsent(s.a(), b -> new ArrayList<>()).add(s.b());
+        }
+
+        for (Pair<Integer, Integer> r : left) {
+            for (Integer c : rightByMiddle.getOrDefault(r.b(), List.of())) {
+                expected.add(new Triple<>(r.a(), r.b(), c));
+            }
+        }
+
+        Relation<Integer, Integer> R = new Relation<>(left);
+        Relation<Integer, Integer> S = new Relation<>(right);
+
+        assertEquals(expected, Relations.join(R, S));
+        assertEquals(expected, Relations.join(R, S, true));
+        Set<Pair<Integer, Integer>> expectedComposition = new HashSet<>();
+
+        for (Triple<Integer, Integer, Integer> t : expected) {
+            expectedComposition.add(new Pair<>(t.a(), t.c()));
+        }
+
+        assertEquals(expectedComposition, Relations.compose(R, S).relationSet());
+        assertEquals(expectedComposition, Relations.compose(R, S, true).relationSet());
+        assertEquals(Set.of(new Triple<>(0, 1, 2)),
+            Relations.join(new Relation<>(Set.of(new Pair<>(0, 1))), new Relation<>(Set.of(new Pair<>(1, 2), new Pair<>(3, 4)))));
+    }
+
+    @Test
+    public void givenRelation_whenRestrict_thenKeepOnlyPairsWithinSubset() {
+        Relation<Integer, String> R = new Relation<>(
+            Set.of(1, 2, 3), Set.of("a", "b"), Set.of(new Pair<>(1, "a"), new Pair<>(2, "b"), new Pair<>(3, "a")));
+
+        Relation<Integer, String> byDomain = Relations.restrictDomain(R, Set.of(1, 2));
+        Relation<Integer, String> byCodomain = Relations.restrictCodomain(R, Set.of("a"));
+
+        assertEquals(Set.of(1, 2), byDomain.domain());
+        assertEquals(Set.of(new Pair<>(1, "a"), new Pair<>(2, "b")), byDomain.relationSet());
+        assertEquals(Set.of("a"), byCodomain.codomain());
+        assertEquals(Set.of(new Pair<>(1, "a"), new Pair<>(3, "a")), byCodomain.relationSet());
+        assertThrows(IllegalArgumentException.class, () -> Relations.restrictDomain(R, Set.of(4)));
+        assertThrows(IllegalArgumentException.class, () -> Relations.restrictCodomain(R, Set.of("c")));
+    }
+}
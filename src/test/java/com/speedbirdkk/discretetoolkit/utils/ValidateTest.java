@@ -3,8 +3,11 @@ package com.speedbirdkk.discretetoolkit.utils;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Optional;
 import java.util.Set;
 
+import com.speedbirdkk.discretetoolkit.model.Pair;
+
 public class ValidateTest {
     @Test
     public void givenASubsetOfB_whenValidateSubset_thenReturnTrue() {
@@ -16,4 +19,17 @@ public class ValidateTest {
 
         assertEquals(expectedValidation, actualValidation);
     }
+
+    @Test
+    public void givenChainMissingShortcut_whenTransitivityCounterexample_thenReturnMissingPair() {
+        Set<Pair<Integer, Integer>> R = Set.of(new Pair<>(0, 1), new Pair<>(1, 2), new Pair<>(0, 2), new Pair<>(2, 3));
+
+        Optional<Pair<Integer, Integer>> actualSequential = Validate.transitivityCounterexample(R, false);
+        Optional<Pair<Integer, Integer>> actualParallel = Validate.transitivityCounterexample(R, true);
+
+        assertFalse(Validate.transitivity(R));
+        assertTrue(Set.of(new Pair<>(0, 3), new Pair<>(1, 3)).contains(actualSequential.orElseThrow()));
+        assertTrue(Set.of(new Pair<>(0, 3), new Pair<>(1, 3)).contains(actualParallel.orElseThrow()));
+        assertTrue(Validate.transitivity(Set.of(new Pair<>(0, 1), new Pair<>(1, 1)), true));
+    }
 }
@@ -0,0 +1,41 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.model.graph.DGraph;
+import com.speedbirdkk.discretetoolkit.model.relational.Relation;
+
+public class DGraphsTest {
+    @Test
+    public void givenTwoCyclesJoinedByArc_whenCondense_thenReturnSingleArcFromSourceToSink() {
+        Relation<String, String> r = new Relation<>(Set.of(
+            new Pair<>("a", "b"), new Pair<>("b", "a"),
+            new Pair<>("b", "c"),
+            new Pair<>("c", "d"), new Pair<>("d", "c"), new Pair<>("d", "d")));
+        DGraph<String> g = DGraph.fromRelation(r);
+
+        assertEquals(r.relationSet(), g.toRelation().relationSet());
+        assertEquals(List.of(Set.of("c", "d"), Set.of("a", "b")), DGraphs.stronglyConnectedComponents(g));
+        assertEquals(Set.of(new Pair<>(1, 0)), DGraphs.condensation(g).arcs());
+        assertFalse(DGraphs.isAcyclic(g));
+        assertThrows(IllegalArgumentException.class, () -> DGraphs.topologicalOrder(g));
+    }
+
+    @Test
+    public void givenLongPath_whenSortTopologically_thenReturnPathOrderWithoutStackOverflow() {
+        int n = 1_000_000;
+        DGraph<Integer> g = DGraph.fromIndices(
+            IntStream.range(0, n).boxed().toList(),
+            IntStream.range(0, n - 1).toArray(),
+            IntStream.range(1, n).toArray());
+
+        assertEquals(n - 1, DGraphs.componentsOf(g)[0]);
+        assertArrayEquals(IntStream.range(0, n).toArray(), DGraphs.topologicalOrder(g));
+    }
+}
@@ -0,0 +1,36 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+
+public class DistanceMatrixTest {
+    @Test
+    public void givenCycle_whenDistanceMatrix_thenMatchBreadthFirstSearchAndCycleParameters() {
+        List<Integer> vertices = new ArrayList<>();
+
+        for (int i = 0; i < 150; i++) {
+            vertices.add(i);
+        }
+
+        IntUGraph<Integer> cycle = IntUGraph.cycle(vertices);
+        DistanceMatrix<Integer> matrix = DistanceMatrix.of(cycle);
+
+        for (int s = 0; s < 150; s += 7) {
+            int[] expected = Traversals.hopDistances(cycle, s);
+
+            for (int t = 0; t < 150; t++) {
+                assertEquals(expected[t], matrix.distanceAt(s, t));
+            }
+        }
+
+        assertEquals(75, matrix.diameter());
+        assertEquals(75, matrix.radius());
+        assertEquals(DistanceMatrix.UNREACHABLE, DistanceMatrix.of(IntUGraph.path(List.of(0, 1)).toUGraph()
+            .edit(e -> e.addVertex(2))).diameter());
+    }
+}
@@ -0,0 +1,24 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+
+public class RandomGraphsTest {
+    @Test
+    public void givenSeed_whenGenerateRandomGraphs_thenReturnSameGraphForSameSeed() {
+        IntUGraph<Integer> gnp = RandomGraphs.gnp(3000, 0.01, 7);
+
+        assertEquals(gnp, RandomGraphs.parallelGnp(3000, 0.01, 7));
+        assertNotEquals(gnp, RandomGraphs.gnp(3000, 0.01, 8));
+        assertEquals(RandomGraphs.gnm(100, 4000, 7), RandomGraphs.gnm(100, 4000, 7));
+        assertEquals(4000, RandomGraphs.gnm(100, 4000, 7).edgesCount());
+        assertEquals(5 * 994 + 15, RandomGraphs.barabasiAlbert(1000, 5, 7).edgesCount());
+
+        IntUGraph<Integer> regular = RandomGraphs.randomRegular(1000, 4, 7);
+        assertEquals(Collections.nCopies(1000, 4L), regular.degreeSequence());
+    }
+}
@@ -0,0 +1,40 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.speedbirdkk.discretetoolkit.model.Pair;
+import com.speedbirdkk.discretetoolkit.utils.Relations;
+
+public class ReachabilityIndexTest {
+    @Test
+    public void givenRandomRelation_whenBuildIndex_thenMatchDenseTransitiveClosure() {
+        int n = 300;
+        SplittableRandom random = new SplittableRandom(13);
+        Set<Integer> domain = IntStream.range(0, n).boxed().collect(Collectors.toSet());
+        Set<Pair<Integer, Integer>> relationSet = new HashSet<>();
+
+        for (int k = 0; k < 320; k++) {
+            relationSet.add(new Pair<>(random.nextInt(n), random.nextInt(n)));
+        }
+
+        Set<Pair<Integer, Integer>> closure = Relations.transitiveClosure(domain, relationSet);
+        ReachabilityIndex<Integer> index = ReachabilityIndex.of(domain, relationSet);
+
+        assertEquals(closure, index.pairs().collect(Collectors.toSet()));
+        assertEquals(closure.size(), index.pairsCount());
+
+        for (int u : List.of(0, 17, 299)) {
+            for (int v = 0; v < n; v++) {
+                assertEquals(closure.contains(new Pair<>(u, v)), index.reaches(u, v));
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import com.speedbirdkk.discretetoolkit.model.graph.WUGraph;
+
+public class ShortestPathsTest {
+    @Test
+    public void givenShortcutHeavierThanDetour_whenShortestPath_thenReturnDetourFromEveryQuery() {
+        WUGraph<String> g = WUGraph.fromIndices(
+            List.of("a", "b", "c", "d", "e"),
+            new int[] {0, 0, 1, 2, 3},
+            new int[] {3, 1, 2, 3, 4},
+            new double[] {10, 1, 2, 3, 1});
+        ShortestPaths engine = new ShortestPaths(g);
+
+        assertEquals(7, engine.distance(0, 4));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, engine.lastPath());
+        assertEquals(7, engine.bidirectionalDistance(0, 4));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, engine.lastPath());
+        assertEquals(7, engine.aStarDistance(0, 4, v -> 0));
+        assertArrayEquals(new double[] {0, 1, 3, 6, 7}, engine.distancesFrom(0));
+        assertEquals(1, g.weight("d", "e"));
+    }
+}
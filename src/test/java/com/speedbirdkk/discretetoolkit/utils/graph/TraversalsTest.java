@@ -0,0 +1,59 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+import com.speedbirdkk.discretetoolkit.model.graph.UEdge;
+import com.speedbirdkk.discretetoolkit.model.graph.UGraph;
+
+public class TraversalsTest {
+    @Test
+    public void givenPath_whenHopDistances_thenReturnPositionInPath() {
+        UGraph<String> path = UGraph.path(List.of("a", "b", "c", "d"));
+
+        Map<String, Integer> actual = Traversals.hopDistances(path, "a");
+
+        assertEquals(Map.of("a", 0, "b", 1, "c", 2, "d", 3), actual);
+    }
+
+    @Test
+    public void givenTwoTriangles_whenConnectedComponents_thenReturnBothTriangles() {
+        UGraph<Integer> g = new UGraph<>(
+            Set.of(0, 1, 2, 3, 4, 5),
+            Set.of(new UEdge<>(0, 1), new UEdge<>(1, 2), new UEdge<>(2, 0),
+                new UEdge<>(3, 4), new UEdge<>(4, 5), new UEdge<>(5, 3)));
+
+        Set<Set<Integer>> actual = Set.copyOf(Traversals.connectedComponents(g));
+
+        assertEquals(Set.of(Set.of(0, 1, 2), Set.of(3, 4, 5)), actual);
+        assertTrue(Traversals.connected(g, 0, 2));
+        assertFalse(Traversals.connected(g, 0, 3));
+    }
+
+    @Test
+    public void givenManyPaths_whenParallelTraversal_thenReturnSameAsSequential() {
+        List<Integer> labels = new ArrayList<>();
+        List<Integer> us = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            labels.add(i);
+
+            if (i % 7 != 0) {
+                us.add(i);
+            }
+        }
+
+        int[] from = us.stream().mapToInt(i -> i).toArray();
+        int[] to = us.stream().mapToInt(i -> i - 1).toArray();
+        IntUGraph<Integer> g = IntUGraph.fromIndices(labels, from, to);
+
+        assertArrayEquals(Traversals.componentLabels(g), Traversals.parallelComponentLabels(g));
+        assertArrayEquals(Traversals.hopDistances(g, 3), Traversals.parallelHopDistances(g, 3));
+    }
+}
@@ -0,0 +1,27 @@
+package com.speedbirdkk.discretetoolkit.utils.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.speedbirdkk.discretetoolkit.model.graph.IntUGraph;
+import com.speedbirdkk.discretetoolkit.model.graph.UEdge;
+import com.speedbirdkk.discretetoolkit.model.graph.UGraph;
+
+public class TrianglesTest {
+    @Test
+    public void givenCompleteGraphWithPendant_whenCountTriangles_thenReturnTrianglesOfCompleteGraph() {
+        UGraph<Integer> g = UGraph.complete(Set.of(0, 1, 2, 3))
+            .edit(e -> e.addVertex(4).addEdge(new UEdge<>(3, 4)));
+        IntUGraph<Integer> compact = IntUGraph.fromUGraph(g);
+
+        assertEquals(4, Triangles.count(g));
+        assertEquals(4, Triangles.parallelCount(compact));
+        assertEquals(Map.of(0, 3L, 1, 3L, 2, 3L, 3, 3L, 4, 0L), Triangles.countsByVertex(g));
+        assertArrayEquals(Triangles.countsByVertex(compact), Triangles.parallelCountsByVertex(compact));
+        assertEquals(0.5, Triangles.localClustering(g).get(3));
+        assertEquals(12.0 / 15.0, Triangles.globalClustering(g));
+    }
+}